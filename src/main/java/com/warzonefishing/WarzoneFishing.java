@@ -1,12 +1,25 @@
 package com.warzonefishing;
 
+import com.warzonefishing.actions.RewardActionRegistry;
 import com.warzonefishing.commands.WarzoneFishingCommand;
 import com.warzonefishing.gui.FishingGUI;
 import com.warzonefishing.hooks.HeadHuntingHook;
 import com.warzonefishing.listeners.FishingListener;
+import com.warzonefishing.listeners.ListenerSettings;
+import com.warzonefishing.managers.BroadcastManager;
+import com.warzonefishing.managers.CommandDispatchQueue;
+import com.warzonefishing.managers.CooldownStore;
 import com.warzonefishing.managers.RewardManager;
+import com.warzonefishing.region.RegionProvider;
+import com.warzonefishing.region.RegionProviders;
+import com.warzonefishing.skins.MojangSkinResolver;
+import com.warzonefishing.skins.SkinCache;
+import com.warzonefishing.skins.SkinResolver;
+import com.warzonefishing.skins.StaticSkinResolver;
 import com.warzonefishing.stats.CatchStatistics;
 import com.warzonefishing.utils.MessageUtils;
+import com.warzonefishing.utils.SkullUtils;
+import com.warzonefishing.utils.TitleAPI;
 import org.bukkit.plugin.java.JavaPlugin;
 
 /**
@@ -28,6 +41,14 @@ public class WarzoneFishing extends JavaPlugin {
     private FishingGUI fishingGUI;
     private HeadHuntingHook headHuntingHook;
     private CatchStatistics catchStatistics;
+    private BroadcastManager broadcastManager;
+    private SkinCache skinCache;
+    private volatile ListenerSettings listenerSettings;
+    private volatile RegionProvider regionProvider;
+    private FishingListener fishingListener;
+    private CommandDispatchQueue commandQueue;
+    private RewardActionRegistry actionRegistry;
+    private CooldownStore cooldownStore;
     
     @Override
     public void onEnable() {
@@ -36,6 +57,19 @@ public class WarzoneFishing extends JavaPlugin {
         // Save default config if it doesn't exist
         saveDefaultConfig();
         
+        // Compile the listener settings and pick the warzone region provider
+        listenerSettings = ListenerSettings.load(getConfig().getConfigurationSection("settings"), getLogger());
+        regionProvider = RegionProviders.create(listenerSettings, getLogger());
+        
+        // Initialize the skull-owner skin cache (rewards resolve their owners on load)
+        SkinResolver skinResolver = getConfig().getBoolean("settings.resolve-skull-owners", true)
+                ? new MojangSkinResolver() : new StaticSkinResolver();
+        skinCache = new SkinCache(this, skinResolver);
+        SkullUtils.setSkinCache(skinCache);
+        
+        // Initialize reward action types (rewards compile their actions on load)
+        actionRegistry = new RewardActionRegistry(getLogger());
+        
         // Initialize the reward manager and load rewards
         rewardManager = new RewardManager(this);
         rewardManager.loadRewards();
@@ -43,11 +77,26 @@ public class WarzoneFishing extends JavaPlugin {
         // Initialize catch statistics (SQLite)
         catchStatistics = new CatchStatistics(this);
         
+        // Initialize broadcast opt-outs
+        broadcastManager = new BroadcastManager(this);
+        
         // Initialize GUI manager
         fishingGUI = new FishingGUI(this);
         
+        // Start the reward command queue
+        commandQueue = new CommandDispatchQueue(this);
+        commandQueue.start();
+        
+        // Start the cooldown store's expiry wheel
+        cooldownStore = new CooldownStore();
+        cooldownStore.start(this);
+        
+        // Start the async title/action bar dispatcher
+        TitleAPI.startDispatcher(this);
+        
         // Register event listeners
-        getServer().getPluginManager().registerEvents(new FishingListener(this), this);
+        fishingListener = new FishingListener(this);
+        getServer().getPluginManager().registerEvents(fishingListener, this);
         
         // Register commands
         WarzoneFishingCommand commandExecutor = new WarzoneFishingCommand(this);
@@ -69,6 +118,24 @@ public class WarzoneFishing extends JavaPlugin {
     
     @Override
     public void onDisable() {
+        TitleAPI.stopDispatcher();
+        if (cooldownStore != null) {
+            cooldownStore.stop();
+        }
+        SkullUtils.setSkinCache(null);
+        // Finish queued catches before the statistics database closes
+        if (fishingListener != null) {
+            fishingListener.getHookBoosts().stop();
+            fishingListener.getPipeline().shutdown();
+        }
+        // Send broadcasts still waiting in an aggregation window
+        if (broadcastManager != null) {
+            broadcastManager.flushAll();
+        }
+        // Run any reward commands that are still queued
+        if (commandQueue != null) {
+            commandQueue.shutdown();
+        }
         if (catchStatistics != null) {
             catchStatistics.shutdown();
         }
@@ -80,21 +147,21 @@ public class WarzoneFishing extends JavaPlugin {
      * Check for optional plugin dependencies and log their status
      */
     private void checkDependencies() {
-        String claimPlugin = getConfig().getString("settings.claim-plugin", "factions");
+        ListenerSettings.ClaimPlugin claimPlugin = listenerSettings.getClaimPlugin();
         
-        if (claimPlugin.equalsIgnoreCase("factions") || claimPlugin.equalsIgnoreCase("factionsuuid")) {
+        if (claimPlugin == ListenerSettings.ClaimPlugin.FACTIONS) {
             if (getServer().getPluginManager().getPlugin("Factions") != null) {
                 getLogger().info("Hooked into Factions for warzone detection.");
             } else {
                 getLogger().warning("Factions not found! Warzone detection may not work.");
             }
-        } else if (claimPlugin.equalsIgnoreCase("worldguard")) {
+        } else if (claimPlugin == ListenerSettings.ClaimPlugin.WORLDGUARD) {
             if (getServer().getPluginManager().getPlugin("WorldGuard") != null) {
                 getLogger().info("Hooked into WorldGuard for region detection.");
             } else {
                 getLogger().warning("WorldGuard not found! Region detection may not work.");
             }
-        } else if (claimPlugin.equalsIgnoreCase("none")) {
+        } else if (claimPlugin == ListenerSettings.ClaimPlugin.NONE) {
             getLogger().info("Running in 'none' mode - fishing allowed in configured worlds.");
         }
     }
@@ -139,11 +206,79 @@ public class WarzoneFishing extends JavaPlugin {
         return catchStatistics;
     }
     
+    /**
+     * Get the broadcast manager
+     * @return BroadcastManager instance
+     */
+    public BroadcastManager getBroadcastManager() {
+        return broadcastManager;
+    }
+    
+    /**
+     * Get the skull-owner skin cache
+     * @return SkinCache instance
+     */
+    public SkinCache getSkinCache() {
+        return skinCache;
+    }
+    
+    /**
+     * Get the compiled listener settings
+     * @return The current settings snapshot (replaced on reload)
+     */
+    public ListenerSettings getListenerSettings() {
+        return listenerSettings;
+    }
+    
+    /**
+     * Get the fishing listener
+     * @return FishingListener instance
+     */
+    public FishingListener getFishingListener() {
+        return fishingListener;
+    }
+    
+    /**
+     * Get the reward action registry, used to add custom action types
+     * @return RewardActionRegistry instance
+     */
+    public RewardActionRegistry getActionRegistry() {
+        return actionRegistry;
+    }
+    
+    /**
+     * Get the reward command queue
+     * @return CommandDispatchQueue instance
+     */
+    public CommandDispatchQueue getCommandQueue() {
+        return commandQueue;
+    }
+    
+    /**
+     * Get the per-player cooldown store
+     * @return CooldownStore instance
+     */
+    public CooldownStore getCooldownStore() {
+        return cooldownStore;
+    }
+    
+    /**
+     * Get the warzone region provider
+     * @return The provider chosen from the claim-plugin setting (replaced on reload)
+     */
+    public RegionProvider getRegionProvider() {
+        return regionProvider;
+    }
+    
     /**
      * Reload the plugin configuration and rewards
      */
     public void reload() {
         reloadConfig();
+        listenerSettings = ListenerSettings.load(getConfig().getConfigurationSection("settings"), getLogger());
+        regionProvider = RegionProviders.create(listenerSettings, getLogger());
+        commandQueue.loadSettings();
+        broadcastManager.loadSettings();
         rewardManager.loadRewards();
         getLogger().info("Configuration reloaded! Loaded " + rewardManager.getRewardCount() + " rewards.");
     }
@@ -0,0 +1,36 @@
+package com.warzonefishing.actions;
+
+import com.warzonefishing.models.FishingReward;
+import com.warzonefishing.utils.MessageTemplate;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+/**
+ * Runs a console command through the server's command map.
+ * This is the fallback for anything without a typed action; plain 'commands:'
+ * entries compile to this action.
+ */
+public class CommandAction implements RewardAction {
+
+    public static final String TYPE = "command";
+
+    private final MessageTemplate command;
+
+    public CommandAction(MessageTemplate command) {
+        this.command = command;
+    }
+
+    @Override
+    public void execute(Player player, FishingReward reward) {
+        Bukkit.dispatchCommand(Bukkit.getConsoleSender(), reward.format(command, player.getName()));
+    }
+
+    public MessageTemplate getCommand() {
+        return command;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+}
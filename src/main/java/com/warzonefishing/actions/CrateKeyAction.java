@@ -0,0 +1,79 @@
+package com.warzonefishing.actions;
+
+import com.warzonefishing.models.FishingReward;
+import org.bukkit.Bukkit;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Gives crate keys by calling the crate plugin's command handler directly.
+ * The arguments are built once at load, with only the player name filled in per
+ * catch, and the command is executed without going through the command map.
+ * If the crate plugin registers its command some other way, the full command
+ * line is dispatched as a console command instead.
+ */
+public class CrateKeyAction implements RewardAction {
+
+    public static final String TYPE = "crate-key";
+
+    private static final String PLAYER = "{player}";
+
+    private final String commandName;
+    private final String[] args;
+    private final int[] playerSlots;
+
+    private volatile PluginCommand command;
+    private volatile boolean resolved;
+
+    /**
+     * @param commandName The crate plugin's command (e.g. "phoenixcrates")
+     * @param args The arguments, with {player} left in for the player name
+     */
+    public CrateKeyAction(String commandName, String[] args) {
+        this.commandName = commandName;
+        this.args = args;
+
+        List<Integer> slots = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(PLAYER)) {
+                slots.add(i);
+            }
+        }
+        this.playerSlots = new int[slots.size()];
+        for (int i = 0; i < playerSlots.length; i++) {
+            playerSlots[i] = slots.get(i);
+        }
+    }
+
+    @Override
+    public void execute(Player player, FishingReward reward) {
+        String[] filled = args.clone();
+        for (int slot : playerSlots) {
+            filled[slot] = player.getName();
+        }
+
+        PluginCommand target = getCommand();
+        if (target != null) {
+            target.execute(Bukkit.getConsoleSender(), commandName, filled);
+        } else {
+            Bukkit.dispatchCommand(Bukkit.getConsoleSender(), commandName + " " + String.join(" ", filled));
+        }
+    }
+
+    // Looked up on first use, once every plugin has enabled
+    private PluginCommand getCommand() {
+        if (!resolved) {
+            command = Bukkit.getPluginCommand(commandName);
+            resolved = true;
+        }
+        return command;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,22 @@
+package com.warzonefishing.actions;
+
+import org.bukkit.OfflinePlayer;
+
+/**
+ * Economy used by money actions
+ */
+public interface EconomyProvider {
+
+    /**
+     * Get the name of the economy, used in logs
+     */
+    String getName();
+
+    /**
+     * Add money to a player's balance
+     * @param player The player
+     * @param amount The amount to add
+     * @return true if the deposit went through
+     */
+    boolean deposit(OfflinePlayer player, double amount);
+}
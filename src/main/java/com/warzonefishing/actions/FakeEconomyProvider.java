@@ -0,0 +1,34 @@
+package com.warzonefishing.actions;
+
+import org.bukkit.OfflinePlayer;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory economy for testing money rewards without Vault.
+ * Balances are kept only until the server stops.
+ */
+public class FakeEconomyProvider implements EconomyProvider {
+
+    private final Map<UUID, Double> balances = new ConcurrentHashMap<>();
+
+    @Override
+    public String getName() {
+        return "fake";
+    }
+
+    @Override
+    public boolean deposit(OfflinePlayer player, double amount) {
+        balances.merge(player.getUniqueId(), amount, Double::sum);
+        return true;
+    }
+
+    /**
+     * Get a player's balance
+     */
+    public double getBalance(UUID player) {
+        return balances.getOrDefault(player, 0.0);
+    }
+}
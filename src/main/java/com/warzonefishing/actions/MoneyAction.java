@@ -0,0 +1,47 @@
+package com.warzonefishing.actions;
+
+import com.warzonefishing.models.FishingReward;
+import org.bukkit.entity.Player;
+
+import java.util.logging.Logger;
+
+/**
+ * Deposits money through the registry's economy provider, without going
+ * through an economy plugin's command.
+ */
+public class MoneyAction implements RewardAction {
+
+    public static final String TYPE = "money";
+
+    private final RewardActionRegistry registry;
+    private final double amount;
+    private final Logger logger;
+
+    public MoneyAction(RewardActionRegistry registry, double amount, Logger logger) {
+        this.registry = registry;
+        this.amount = amount;
+        this.logger = logger;
+    }
+
+    @Override
+    public void execute(Player player, FishingReward reward) {
+        EconomyProvider economy = registry.getEconomy();
+        if (economy == null) {
+            logger.warning("No economy available for money reward '" + reward.getId() + "'.");
+            return;
+        }
+        if (!economy.deposit(player, amount)) {
+            logger.warning("Failed to deposit " + amount + " to " + player.getName()
+                    + " (" + economy.getName() + ").");
+        }
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+}
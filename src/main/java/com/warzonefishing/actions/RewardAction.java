@@ -0,0 +1,24 @@
+package com.warzonefishing.actions;
+
+import com.warzonefishing.models.FishingReward;
+import org.bukkit.entity.Player;
+
+/**
+ * Something a reward does when it is caught or given, compiled once when rewards load.
+ * Actions run on the main thread through the reward command queue, in the order
+ * they are listed on the reward.
+ */
+public interface RewardAction {
+
+    /**
+     * Run the action
+     * @param player The player receiving the reward
+     * @param reward The reward being given
+     */
+    void execute(Player player, FishingReward reward);
+
+    /**
+     * Get the name of the action type (e.g. "money", "command")
+     */
+    String getType();
+}
@@ -0,0 +1,197 @@
+package com.warzonefishing.actions;
+
+import com.warzonefishing.utils.MessageTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Registry of reward action types, used to compile a reward's 'actions:' list.
+ * Comes with 'command', 'money' and 'crate-key'; other plugins can add their own
+ * types through WarzoneFishing.getInstance().getActionRegistry().register(...)
+ * before rewards are (re)loaded.
+ *
+ * Example config:
+ *   actions:
+ *     - type: crate-key
+ *       crate: rogue
+ *     - type: money
+ *       amount: 250
+ *     - type: command
+ *       command: "say {player} caught {item}"
+ */
+public class RewardActionRegistry {
+
+    private final Map<String, RewardActionType> types = new ConcurrentHashMap<>();
+    private final Logger logger;
+    private volatile EconomyProvider economy;
+
+    /**
+     * @param logger Logger for failed actions
+     */
+    public RewardActionRegistry(Logger logger) {
+        this.logger = logger;
+        this.economy = VaultEconomyProvider.create(logger);
+        registerDefaults();
+    }
+
+    private void registerDefaults() {
+        register(new SimpleType(CommandAction.TYPE) {
+            @Override
+            public RewardAction compile(Map<String, Object> spec) {
+                String command = string(spec, "command", null);
+                if (command == null || command.isEmpty()) {
+                    throw new IllegalArgumentException("missing 'command'");
+                }
+                return new CommandAction(MessageTemplate.compile(command, false));
+            }
+        });
+
+        register(new SimpleType(MoneyAction.TYPE) {
+            @Override
+            public RewardAction compile(Map<String, Object> spec) {
+                double amount = number(spec, "amount", 0).doubleValue();
+                if (amount <= 0) {
+                    throw new IllegalArgumentException("'amount' must be positive");
+                }
+                return new MoneyAction(RewardActionRegistry.this, amount, logger);
+            }
+        });
+
+        register(new SimpleType(CrateKeyAction.TYPE) {
+            @Override
+            public RewardAction compile(Map<String, Object> spec) {
+                String crate = string(spec, "crate", null);
+                if (crate == null || crate.isEmpty()) {
+                    throw new IllegalArgumentException("missing 'crate'");
+                }
+                int amount = number(spec, "amount", 1).intValue();
+                if (amount < 1) {
+                    throw new IllegalArgumentException("'amount' must be at least 1");
+                }
+                String command = string(spec, "command", "phoenixcrates");
+                String args = string(spec, "args", "key give {player} {crate} {amount}")
+                        .replace("{crate}", crate)
+                        .replace("{amount}", String.valueOf(amount));
+                String[] tokens = args.trim().split("\\s+");
+                for (String token : tokens) {
+                    // Only a whole {player} argument is filled in per catch
+                    int open = token.indexOf('{');
+                    if (open >= 0 && token.indexOf('}', open) > open && !token.equals("{player}")) {
+                        logger.warning("crate-key action for crate '" + crate + "' has placeholder argument '"
+                                + token + "' that can't be filled, only a whole {player} argument is replaced.");
+                    }
+                }
+                return new CrateKeyAction(command, tokens);
+            }
+        });
+    }
+
+    /**
+     * Register an action type, replacing any type with the same name
+     */
+    public void register(RewardActionType type) {
+        types.put(type.getName().toLowerCase(Locale.ROOT), type);
+    }
+
+    public void unregister(String name) {
+        types.remove(name.toLowerCase(Locale.ROOT));
+    }
+
+    public RewardActionType get(String name) {
+        return name != null ? types.get(name.toLowerCase(Locale.ROOT)) : null;
+    }
+
+    public Set<String> getNames() {
+        return Collections.unmodifiableSet(types.keySet());
+    }
+
+    /**
+     * Compile a reward's action list. Invalid entries are logged and skipped.
+     * @param specs The 'actions' entries (may be null)
+     * @param rewardId The reward being loaded, for log messages
+     * @return The compiled actions in order
+     */
+    public List<RewardAction> compile(List<Map<?, ?>> specs, String rewardId) {
+        if (specs == null || specs.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<RewardAction> actions = new ArrayList<>(specs.size());
+        for (Map<?, ?> raw : specs) {
+            Map<String, Object> spec = new HashMap<>();
+            for (Map.Entry<?, ?> entry : raw.entrySet()) {
+                spec.put(String.valueOf(entry.getKey()), entry.getValue());
+            }
+
+            String typeName = string(spec, "type", null);
+            RewardActionType type = get(typeName);
+            if (type == null) {
+                logger.warning("Unknown action type '" + typeName + "' in reward '" + rewardId + "', skipping.");
+                continue;
+            }
+
+            try {
+                actions.add(type.compile(spec));
+            } catch (IllegalArgumentException e) {
+                logger.warning("Invalid '" + typeName + "' action in reward '" + rewardId + "': " + e.getMessage());
+            }
+        }
+        return actions;
+    }
+
+    /**
+     * Get the economy used by money actions (Vault by default)
+     * @return The economy, or null if none is available
+     */
+    public EconomyProvider getEconomy() {
+        return economy;
+    }
+
+    /**
+     * Replace the economy used by money actions (e.g. with a {@link FakeEconomyProvider})
+     */
+    public void setEconomy(EconomyProvider economy) {
+        this.economy = economy;
+    }
+
+    private static String string(Map<String, Object> spec, String key, String def) {
+        Object value = spec.get(key);
+        return value != null ? String.valueOf(value) : def;
+    }
+
+    private static Number number(Map<String, Object> spec, String key, Number def) {
+        Object value = spec.get(key);
+        if (value == null) return def;
+        if (value instanceof Number) return (Number) value;
+        try {
+            return Double.parseDouble(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("'" + key + "' is not a number: " + value);
+        }
+    }
+
+    /**
+     * Base for the built-in types
+     */
+    private abstract static class SimpleType implements RewardActionType {
+
+        private final String name;
+
+        SimpleType(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.warzonefishing.actions;
+
+import java.util.Map;
+
+/**
+ * Compiles one kind of reward action from its config form.
+ * Register custom types with {@link RewardActionRegistry#register} so rewards can use
+ * them under 'actions:', e.g.
+ *
+ *   actions:
+ *     - type: money
+ *       amount: 500
+ */
+public interface RewardActionType {
+
+    /**
+     * Get the name used as 'type' in the config (lowercase)
+     */
+    String getName();
+
+    /**
+     * Compile an action
+     * @param spec The action's config entry, including 'type'
+     * @return The compiled action
+     * @throws IllegalArgumentException if the entry is invalid
+     */
+    RewardAction compile(Map<String, Object> spec);
+}
@@ -0,0 +1,90 @@
+package com.warzonefishing.actions;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.plugin.RegisteredServiceProvider;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.logging.Logger;
+
+/**
+ * Economy backed by Vault, called through MethodHandles so Vault stays optional.
+ * The economy service is looked up on first use, since economy plugins may
+ * register it after WarzoneFishing enables.
+ */
+public class VaultEconomyProvider implements EconomyProvider {
+
+    private final Class<?> economyClass;
+    private final MethodHandle depositPlayer;       // (Object, OfflinePlayer, double) Object
+    private final MethodHandle transactionSuccess;  // (Object) boolean
+    private final Logger logger;
+
+    private volatile Object economy;
+
+    private VaultEconomyProvider(Class<?> economyClass, MethodHandle depositPlayer, MethodHandle transactionSuccess,
+                                 Logger logger) {
+        this.economyClass = economyClass;
+        this.logger = logger;
+        this.depositPlayer = depositPlayer;
+        this.transactionSuccess = transactionSuccess;
+    }
+
+    /**
+     * Resolve the Vault economy API
+     * @param logger Logger for failed deposits
+     * @return The provider, or null if Vault is not installed
+     */
+    public static VaultEconomyProvider create(Logger logger) {
+        try {
+            Class<?> economyClass = Class.forName("net.milkbowl.vault.economy.Economy");
+            Class<?> responseClass = Class.forName("net.milkbowl.vault.economy.EconomyResponse");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+            MethodHandle depositPlayer = lookup.findVirtual(economyClass, "depositPlayer",
+                    MethodType.methodType(responseClass, OfflinePlayer.class, double.class))
+                    .asType(MethodType.methodType(Object.class, Object.class, OfflinePlayer.class, double.class));
+            MethodHandle transactionSuccess = lookup.findVirtual(responseClass, "transactionSuccess",
+                    MethodType.methodType(boolean.class))
+                    .asType(MethodType.methodType(boolean.class, Object.class));
+
+            return new VaultEconomyProvider(economyClass, depositPlayer, transactionSuccess, logger);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object getEconomy() {
+        Object current = economy;
+        if (current == null) {
+            RegisteredServiceProvider<Object> registration =
+                    Bukkit.getServicesManager().getRegistration((Class<Object>) economyClass);
+            if (registration != null) {
+                current = registration.getProvider();
+                economy = current;
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public String getName() {
+        return "vault";
+    }
+
+    @Override
+    public boolean deposit(OfflinePlayer player, double amount) {
+        Object target = getEconomy();
+        if (target == null) return false;
+
+        try {
+            Object response = (Object) depositPlayer.invokeExact(target, player, amount);
+            return response != null && (boolean) transactionSuccess.invokeExact(response);
+        } catch (Throwable t) {
+            logger.warning("Vault deposit failed: " + t.getMessage());
+            return false;
+        }
+    }
+}
@@ -1,9 +1,18 @@
 package com.warzonefishing.commands;
 
 import com.warzonefishing.WarzoneFishing;
+import com.warzonefishing.actions.RewardAction;
+import com.warzonefishing.listeners.HookBoostTask;
+import com.warzonefishing.managers.CommandDispatchQueue;
+import com.warzonefishing.managers.RewardTable;
 import com.warzonefishing.models.FishingReward;
+import com.warzonefishing.models.Rarity;
+import com.warzonefishing.pipeline.CatchPipeline;
+import com.warzonefishing.region.RegionCache;
+import com.warzonefishing.region.RegionProvider;
 import com.warzonefishing.stats.CatchStatistics;
 import com.warzonefishing.stats.PlayerCatchStats;
+import com.warzonefishing.utils.MessageTemplate;
 import com.warzonefishing.utils.MessageUtils;
 import com.warzonefishing.utils.TitleAPI;
 import org.bukkit.Bukkit;
@@ -28,15 +37,14 @@ import java.util.stream.Collectors;
  * /wf test - Test a random reward
  * /wf preview <reward> - Preview a specific reward
  * /wf info - Show plugin information
+ * /wf broadcasts - Toggle fishing broadcasts
+ * /wf cache [clear] - Show or clear the warzone region cache
  */
 public class WarzoneFishingCommand implements CommandExecutor, TabCompleter {
     
     private final WarzoneFishing plugin;
     private final List<String> subCommands = Arrays.asList(
-            "menu", "reload", "list", "give", "test", "preview", "info", "stats", "top"
-    );
-    private final List<String> rarities = Arrays.asList(
-            "COMMON", "UNCOMMON", "RARE", "EPIC", "LEGENDARY"
+            "menu", "reload", "list", "give", "test", "preview", "info", "stats", "top", "broadcasts", "cache"
     );
     
     public WarzoneFishingCommand(WarzoneFishing plugin) {
@@ -85,6 +93,12 @@ public class WarzoneFishingCommand implements CommandExecutor, TabCompleter {
             case "top":
                 handleTop(sender);
                 break;
+            case "broadcasts":
+                handleBroadcasts(sender);
+                break;
+            case "cache":
+                handleCache(sender, args);
+                break;
             default:
                 sendHelp(sender, label);
                 break;
@@ -107,6 +121,8 @@ public class WarzoneFishingCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(MessageUtils.color("&b/" + label + " info &7- Plugin information"));
         sender.sendMessage(MessageUtils.color("&b/" + label + " stats [player] &7- Fishing statistics"));
         sender.sendMessage(MessageUtils.color("&b/" + label + " top &7- Top fishers leaderboard"));
+        sender.sendMessage(MessageUtils.color("&b/" + label + " broadcasts &7- Toggle catch broadcasts"));
+        sender.sendMessage(MessageUtils.color("&b/" + label + " cache [clear] &7- Warzone region cache"));
         sender.sendMessage(MessageUtils.createFooter());
     }
     
@@ -123,6 +139,55 @@ public class WarzoneFishingCommand implements CommandExecutor, TabCompleter {
         plugin.getFishingGUI().openMainMenu((Player) sender);
     }
     
+    /**
+     * Handle broadcasts command - toggle receiving catch broadcasts
+     */
+    private void handleBroadcasts(CommandSender sender) {
+        if (!(sender instanceof Player)) {
+            sender.sendMessage(MessageUtils.color(MessageUtils.PREFIX + 
+                    "&cThis command requires a player!"));
+            return;
+        }
+        
+        boolean enabled = plugin.getBroadcastManager().toggle(((Player) sender).getUniqueId());
+        sender.sendMessage(MessageUtils.color(MessageUtils.PREFIX + 
+                (enabled ? "&aFishing broadcasts enabled." : "&7Fishing broadcasts disabled.")));
+    }
+    
+    /**
+     * Handle cache command - show or clear the warzone region cache
+     */
+    private void handleCache(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("warzonefishing.admin")) {
+            sender.sendMessage(MessageUtils.color(MessageUtils.PREFIX + "&cNo permission!"));
+            return;
+        }
+        
+        RegionProvider provider = plugin.getRegionProvider();
+        if (args.length >= 2 && args[1].equalsIgnoreCase("clear")) {
+            provider.invalidate();
+            sender.sendMessage(MessageUtils.color(MessageUtils.PREFIX + "&aWarzone region cache cleared."));
+            return;
+        }
+        
+        if (!(provider instanceof RegionCache)) {
+            sender.sendMessage(MessageUtils.color(MessageUtils.PREFIX + 
+                    "&7Region cache is not used for &f" + provider.getName() + "&7."));
+            return;
+        }
+        
+        RegionCache cache = (RegionCache) provider;
+        long lookups = cache.getHits() + cache.getMisses();
+        sender.sendMessage(MessageUtils.createHeader("Region Cache"));
+        sender.sendMessage(MessageUtils.color("&bProvider: &f" + provider.getName()));
+        sender.sendMessage(MessageUtils.color("&bCached Chunks: &f" + cache.size()));
+        sender.sendMessage(MessageUtils.color("&bTTL: &f" + 
+                (cache.getTtlSeconds() > 0 ? cache.getTtlSeconds() + "s" : "until cleared")));
+        sender.sendMessage(MessageUtils.color("&bHit Rate: &f" + 
+                (lookups > 0 ? String.format("%.1f%%", cache.getHits() * 100.0 / lookups) : "-")));
+        sender.sendMessage(MessageUtils.createFooter());
+    }
+    
     /**
      * Handle reload command
      */
@@ -151,9 +216,14 @@ public class WarzoneFishingCommand implements CommandExecutor, TabCompleter {
         
         // Filter by rarity if specified
         if (args.length > 1) {
-            String rarity = args[1].toUpperCase();
+            Rarity rarity = plugin.getRewardManager().getRarities().get(args[1]);
+            if (rarity == null) {
+                sender.sendMessage(MessageUtils.color(MessageUtils.PREFIX + 
+                        "&cUnknown rarity: &f" + args[1]));
+                return;
+            }
             rewards = plugin.getRewardManager().getRewardsByRarity(rarity);
-            title = MessageUtils.getRarityColor(rarity) + rarity + " &fRewards";
+            title = rarity.getColorCode() + rarity.getName() + " &fRewards";
         } else {
             rewards = plugin.getRewardManager().getAllRewards();
             title = "All Rewards";
@@ -242,10 +312,9 @@ public class WarzoneFishingCommand implements CommandExecutor, TabCompleter {
         }
         
         // Execute commands
-        for (String cmd : reward.getCommands()) {
-            String parsed = cmd.replace("{player}", target.getName());
+        for (RewardAction action : reward.getActions()) {
             for (int i = 0; i < amount; i++) {
-                Bukkit.dispatchCommand(Bukkit.getConsoleSender(), parsed);
+                plugin.getCommandQueue().submit(() -> action.execute(target, reward));
             }
         }
         
@@ -279,20 +348,13 @@ public class WarzoneFishingCommand implements CommandExecutor, TabCompleter {
         }
         
         // Give item
-        ItemStack item = null;
         if (reward.hasItem()) {
-            item = reward.createItemStack();
-            player.getInventory().addItem(item);
+            player.getInventory().addItem(reward.createItemStack());
         }
         
         // Send title
-        String title = reward.getTitleMessage()
-                .replace("{player}", player.getName())
-                .replace("{rarity}", reward.getRarity());
-        String subtitle = reward.getSubtitleMessage()
-                .replace("{item}", item != null && item.hasItemMeta() && item.getItemMeta().hasDisplayName() 
-                        ? item.getItemMeta().getDisplayName() : reward.getItemDisplayName())
-                .replace("{rarity}", reward.getRarity());
+        TitleAPI.PreparedText title = reward.prepare(reward.getTitleTemplate(), player.getName());
+        TitleAPI.PreparedText subtitle = reward.prepare(reward.getSubtitleTemplate(), player.getName());
         
         TitleAPI.sendTitle(player, title, subtitle, 10, 40, 10);
         
@@ -303,14 +365,13 @@ public class WarzoneFishingCommand implements CommandExecutor, TabCompleter {
         }
         
         // Execute commands
-        for (String cmd : reward.getCommands()) {
-            Bukkit.dispatchCommand(Bukkit.getConsoleSender(), 
-                    cmd.replace("{player}", player.getName()));
+        for (RewardAction action : reward.getActions()) {
+            plugin.getCommandQueue().submit(() -> action.execute(player, reward));
         }
         
         sender.sendMessage(MessageUtils.color(MessageUtils.PREFIX + 
-                "&fTested: " + MessageUtils.getRarityColor(reward.getRarity()) + 
-                reward.getId() + " &7(Rarity: " + reward.getRarity() + ")"));
+                "&fTested: " + reward.getRarityColor() + 
+                reward.getId() + " &7(Rarity: " + reward.getRarity().getName() + ")"));
     }
     
     /**
@@ -348,19 +409,19 @@ public class WarzoneFishingCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(MessageUtils.color("&bID: &f" + reward.getId()));
         sender.sendMessage(MessageUtils.color("&bType: &f" + reward.getType()));
         sender.sendMessage(MessageUtils.color("&bRarity: " + 
-                MessageUtils.getRarityColor(reward.getRarity()) + reward.getRarity()));
+                reward.getRarityColor() + reward.getRarity().getName()));
         sender.sendMessage(MessageUtils.color("&bChance: &f" + reward.getChance()));
         sender.sendMessage(MessageUtils.color("&bDisplay: &f" + reward.getItemDisplayName()));
         
-        if (!reward.getCommands().isEmpty()) {
-            sender.sendMessage(MessageUtils.color("&bCommands: &f" + reward.getCommands().size()));
+        if (!reward.getActions().isEmpty()) {
+            sender.sendMessage(MessageUtils.color("&bActions: &f" + reward.getActions().stream()
+                    .map(RewardAction::getType)
+                    .collect(Collectors.joining(", "))));
         }
         
         // Show title preview
-        String title = reward.getTitleMessage().replace("{rarity}", reward.getRarity());
-        String subtitle = reward.getSubtitleMessage()
-                .replace("{item}", reward.getItemDisplayName())
-                .replace("{rarity}", reward.getRarity());
+        TitleAPI.PreparedText title = reward.prepare(reward.getTitleTemplate(), player.getName());
+        TitleAPI.PreparedText subtitle = reward.prepare(reward.getSubtitleTemplate(), player.getName());
         TitleAPI.sendTitle(player, title, subtitle, 10, 60, 10);
         
         // Play sound
@@ -382,15 +443,28 @@ public class WarzoneFishingCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(MessageUtils.color("&bTotal Weight: &f" + 
                 String.format("%.2f", plugin.getRewardManager().getTotalWeight())));
         sender.sendMessage(MessageUtils.color("&bClaim Plugin: &f" + 
-                plugin.getConfig().getString("settings.claim-plugin", "factions")));
+                plugin.getRegionProvider().getName()));
+        CommandDispatchQueue commandQueue = plugin.getCommandQueue();
+        sender.sendMessage(MessageUtils.color("&bCommand Queue: &f" + commandQueue.getDepth() + 
+                " queued &7(peak " + commandQueue.getPeakDepth() + ", " + commandQueue.getDispatched() + " run)"));
+        CatchPipeline pipeline = plugin.getFishingListener().getPipeline();
+        sender.sendMessage(MessageUtils.color("&bCatch Cost: &f" + 
+                String.format("%.1f", pipeline.getAverageMainThreadNanos() / 1000.0) + "µs &7(main thread, " + 
+                pipeline.getCompletedCatches() + " catches, " + pipeline.getPendingCount() + " pending)"));
+        HookBoostTask hookBoosts = plugin.getFishingListener().getHookBoosts();
+        sender.sendMessage(MessageUtils.color("&bHook Boosts: " + (hookBoosts.isAvailable()
+                ? "&f" + hookBoosts.getLastTickAdjusted() + " last tick &7(peak " + hookBoosts.getPeakTickAdjusted() +
+                        "/tick, " + hookBoosts.getAdjusted() + " total)"
+                : "&cunavailable")));
         
         // Show reward breakdown by rarity
+        RewardTable table = plugin.getRewardManager().getTable();
         sender.sendMessage(MessageUtils.color("&7--- Rewards by Rarity ---"));
-        for (String rarity : rarities) {
-            int count = plugin.getRewardManager().getRewardsByRarity(rarity).size();
+        for (Rarity rarity : table.getRarities().getRarities()) {
+            int count = table.getRewardsByRarity(rarity).size();
             if (count > 0) {
-                sender.sendMessage(MessageUtils.color(MessageUtils.getRarityColor(rarity) + 
-                        rarity + ": &f" + count));
+                sender.sendMessage(MessageUtils.color(rarity.getColorCode() + 
+                        rarity.getName() + ": &f" + count));
             }
         }
         
@@ -442,11 +516,10 @@ public class WarzoneFishingCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage("");
         sender.sendMessage(MessageUtils.color("  &7By Rarity:"));
         
-        Map<String, Integer> byRarity = stats.getCatchesByRarity();
-        for (String rarity : rarities) {
-            int count = byRarity.containsKey(rarity) ? byRarity.get(rarity) : 0;
-            sender.sendMessage(MessageUtils.color("    " + MessageUtils.getRarityColor(rarity) + 
-                    "\u25C6 " + rarity.charAt(0) + rarity.substring(1).toLowerCase() + ": &f" + count));
+        for (Rarity rarity : plugin.getRewardManager().getRarities().getRarities()) {
+            int count = stats.getCatches(rarity);
+            sender.sendMessage(MessageUtils.color("    " + rarity.getColorCode() + 
+                    "\u25C6 " + rarity.getDisplayName() + ": &f" + count));
         }
         
         if (rarestCatch != null) {
@@ -522,7 +595,7 @@ public class WarzoneFishingCommand implements CommandExecutor, TabCompleter {
             
             if (subCommand.equals("list")) {
                 // Rarity filter
-                completions = rarities.stream()
+                completions = plugin.getRewardManager().getRarities().getNames().stream()
                         .filter(s -> s.toLowerCase().startsWith(partial))
                         .collect(Collectors.toList());
             } else if (subCommand.equals("stats")) {
@@ -537,6 +610,10 @@ public class WarzoneFishingCommand implements CommandExecutor, TabCompleter {
                         .map(Player::getName)
                         .filter(s -> s.toLowerCase().startsWith(partial))
                         .collect(Collectors.toList());
+            } else if (subCommand.equals("cache")) {
+                if ("clear".startsWith(partial)) {
+                    completions.add("clear");
+                }
             } else if (subCommand.equals("preview")) {
                 // Reward IDs
                 completions = plugin.getRewardManager().getAllRewards().stream()
@@ -2,10 +2,15 @@ package com.warzonefishing.gui;
 
 import com.warzonefishing.WarzoneFishing;
 import com.warzonefishing.hooks.HeadHuntingHook;
+import com.warzonefishing.managers.EligibilityBrackets;
+import com.warzonefishing.managers.RarityRegistry;
+import com.warzonefishing.managers.RewardTable;
 import com.warzonefishing.models.FishingReward;
+import com.warzonefishing.models.Rarity;
 import com.warzonefishing.stats.CatchStatistics;
 import com.warzonefishing.utils.MessageUtils;
 import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -31,20 +36,6 @@ public class FishingGUI implements Listener {
     private final Map<UUID, String> openGUIs = new HashMap<>();
     private final Map<UUID, Integer> playerPages = new HashMap<>();
     
-    // Rarity order for display
-    private final List<String> RARITY_ORDER = Arrays.asList(
-            "COMMON", "UNCOMMON", "RARE", "EPIC", "LEGENDARY"
-    );
-    
-    // Glass pane colors by rarity
-    private final Map<String, Short> RARITY_GLASS = new HashMap<String, Short>() {{
-        put("COMMON", (short) 7);      // Gray
-        put("UNCOMMON", (short) 5);    // Lime
-        put("RARE", (short) 9);        // Cyan
-        put("EPIC", (short) 10);       // Purple
-        put("LEGENDARY", (short) 1);   // Orange
-    }};
-    
     public FishingGUI(WarzoneFishing plugin) {
         this.plugin = plugin;
         Bukkit.getPluginManager().registerEvents(this, plugin);
@@ -74,25 +65,22 @@ public class FishingGUI implements Listener {
         titleItem.setItemMeta(titleMeta);
         inv.setItem(4, titleItem);
         
-        // Calculate total weight for percentage display
-        double totalWeight = plugin.getRewardManager().getTotalWeight();
+        // Read one catalog snapshot so counts and percentages agree during a reload
+        RewardTable table = plugin.getRewardManager().getTable();
+        double totalWeight = table.getTotalWeight();
         
-        // Rarity category slots (row 2-3, spaced out)
-        int[] raritySlots = {20, 21, 22, 23, 24};
+        // Rarity category slots (centered in row 3, wrapping into row 4)
+        List<Rarity> rarities = table.getRarities().getRarities();
         
-        for (int i = 0; i < RARITY_ORDER.size(); i++) {
-            String rarity = RARITY_ORDER.get(i);
-            List<FishingReward> rewards = plugin.getRewardManager().getRewardsByRarity(rarity);
+        for (int i = 0; i < rarities.size() && i < 18; i++) {
+            Rarity rarity = rarities.get(i);
+            List<FishingReward> rewards = table.getRewardsByRarity(rarity);
             
-            // Calculate total chance for this rarity
-            double rarityChance = 0;
-            for (FishingReward r : rewards) {
-                rarityChance += r.getChance();
-            }
-            double percentage = (rarityChance / totalWeight) * 100;
+            // Total chance for this rarity is precomputed in the table
+            double percentage = (table.getRarityWeight(rarity) / totalWeight) * 100;
             
             ItemStack categoryItem = createRarityItem(rarity, rewards.size(), percentage);
-            inv.setItem(raritySlots[i], categoryItem);
+            inv.setItem(getRaritySlot(i, rarities.size()), categoryItem);
         }
         
         // Stats/Player info item (bottom left)
@@ -102,7 +90,7 @@ public class FishingGUI implements Listener {
         statsMeta.setDisplayName(MessageUtils.color("&e&lYour Stats"));
         
         List<String> statsLore = new ArrayList<>();
-        statsLore.add(MessageUtils.color("&7Total Rewards: &b" + plugin.getRewardManager().getRewardCount()));
+        statsLore.add(MessageUtils.color("&7Total Rewards: &b" + table.size()));
         
         if (hook.isEnabled()) {
             int playerLevel = hook.getPlayerLevel(player);
@@ -148,14 +136,24 @@ public class FishingGUI implements Listener {
         openGUIs.put(player.getUniqueId(), "main");
     }
     
+    /**
+     * Get the main menu slot for the n-th rarity category.
+     * Up to 9 tiers are centered in one row; more wrap into the next row.
+     */
+    private int getRaritySlot(int index, int count) {
+        int row = index / 9;
+        int inRow = Math.min(count - row * 9, 9);
+        return 18 + row * 9 + (9 - inRow) / 2 + index % 9;
+    }
+    
     /**
      * Open a rarity-specific page
      */
-    public void openRarityPage(Player player, String rarity, int page) {
+    public void openRarityPage(Player player, Rarity rarity, int page) {
         List<FishingReward> rewards = plugin.getRewardManager().getRewardsByRarity(rarity);
         
         if (rewards.isEmpty()) {
-            player.sendMessage(MessageUtils.color(MessageUtils.PREFIX + "&7No " + rarity.toLowerCase() + " rewards found."));
+            player.sendMessage(MessageUtils.color(MessageUtils.PREFIX + "&7No " + rarity.getName().toLowerCase() + " rewards found."));
             return;
         }
         
@@ -164,7 +162,7 @@ public class FishingGUI implements Listener {
         int totalPages = (int) Math.ceil((double) rewards.size() / itemsPerPage);
         page = Math.max(0, Math.min(page, totalPages - 1));
         
-        String title = MessageUtils.color(MessageUtils.getRarityColor(rarity) + "&l" + rarity + " Fish");
+        String title = rarity.getColor() + MessageUtils.color("&l" + rarity.getName() + " Fish");
         if (totalPages > 1) {
             title += MessageUtils.color(" &7(" + (page + 1) + "/" + totalPages + ")");
         }
@@ -172,15 +170,16 @@ public class FishingGUI implements Listener {
         Inventory inv = Bukkit.createInventory(null, 54, title);
         
         // Fill bottom row with glass
-        short glassColor = RARITY_GLASS.getOrDefault(rarity, (short) 7);
-        ItemStack glass = createGlass(glassColor, " ");
+        ItemStack glass = createGlass(rarity.getGlassColor(), " ");
         for (int i = 45; i < 54; i++) {
             inv.setItem(i, glass);
         }
         
         // Add rewards - calculate personalized weights
-        List<FishingReward> allRewards = plugin.getRewardManager().getAllRewards();
-        double totalWeight = calculatePlayerTotalWeight(player, allRewards);
+        HeadHuntingHook hook = plugin.getHeadHuntingHook();
+        int playerLevel = hook.isEnabled() ? hook.getPlayerLevel(player) : 1;
+        boolean hasMask = hook.isEnabled() && hook.hasGuardianMask(player);
+        double totalWeight = calculatePlayerTotalWeight(playerLevel, hasMask);
         if (totalWeight <= 0) totalWeight = plugin.getRewardManager().getTotalWeight();
         
         int startIndex = page * itemsPerPage;
@@ -188,7 +187,7 @@ public class FishingGUI implements Listener {
         
         for (int i = startIndex; i < endIndex; i++) {
             FishingReward reward = rewards.get(i);
-            ItemStack displayItem = createRewardDisplayItem(reward, totalWeight, player);
+            ItemStack displayItem = createRewardDisplayItem(reward, totalWeight, player, playerLevel, hasMask);
             inv.setItem(i - startIndex, displayItem);
         }
         
@@ -214,7 +213,7 @@ public class FishingGUI implements Listener {
         ItemMeta pageMeta = pageItem.getItemMeta();
         pageMeta.setDisplayName(MessageUtils.color("&fPage " + (page + 1) + "/" + totalPages));
         pageMeta.setLore(Arrays.asList(
-                MessageUtils.color("&7" + rewards.size() + " " + rarity.toLowerCase() + " rewards")
+                MessageUtils.color("&7" + rewards.size() + " " + rarity.getName().toLowerCase() + " rewards")
         ));
         pageItem.setItemMeta(pageMeta);
         inv.setItem(49, pageItem);
@@ -236,7 +235,7 @@ public class FishingGUI implements Listener {
         inv.setItem(53, closeItem);
         
         player.openInventory(inv);
-        openGUIs.put(player.getUniqueId(), "rarity:" + rarity);
+        openGUIs.put(player.getUniqueId(), "rarity:" + rarity.getName());
         playerPages.put(player.getUniqueId(), page);
     }
     
@@ -244,14 +243,8 @@ public class FishingGUI implements Listener {
      * Open the "all rewards" view
      */
     public void openAllRewards(Player player, int page) {
-        List<FishingReward> rewards = plugin.getRewardManager().getAllRewards();
-        
-        // Sort by rarity order, then by chance
-        rewards.sort((a, b) -> {
-            int rarityCompare = RARITY_ORDER.indexOf(a.getRarity()) - RARITY_ORDER.indexOf(b.getRarity());
-            if (rarityCompare != 0) return rarityCompare;
-            return Double.compare(b.getChance(), a.getChance());
-        });
+        // Already sorted by rarity rank, then by chance
+        List<FishingReward> rewards = plugin.getRewardManager().getTable().getRewardsInDisplayOrder();
         
         int itemsPerPage = 45;
         int totalPages = (int) Math.ceil((double) rewards.size() / itemsPerPage);
@@ -271,7 +264,10 @@ public class FishingGUI implements Listener {
         }
         
         // Add rewards - calculate personalized weights
-        double totalWeight = calculatePlayerTotalWeight(player, rewards);
+        HeadHuntingHook hook = plugin.getHeadHuntingHook();
+        int playerLevel = hook.isEnabled() ? hook.getPlayerLevel(player) : 1;
+        boolean hasMask = hook.isEnabled() && hook.hasGuardianMask(player);
+        double totalWeight = calculatePlayerTotalWeight(playerLevel, hasMask);
         if (totalWeight <= 0) totalWeight = plugin.getRewardManager().getTotalWeight();
         
         int startIndex = page * itemsPerPage;
@@ -279,7 +275,7 @@ public class FishingGUI implements Listener {
         
         for (int i = startIndex; i < endIndex; i++) {
             FishingReward reward = rewards.get(i);
-            ItemStack displayItem = createRewardDisplayItem(reward, totalWeight, player);
+            ItemStack displayItem = createRewardDisplayItem(reward, totalWeight, player, playerLevel, hasMask);
             inv.setItem(i - startIndex, displayItem);
         }
         
@@ -327,34 +323,27 @@ public class FishingGUI implements Listener {
     }
     
     /**
-     * Calculate total effective weight for a player (considering level requirements)
+     * Calculate total effective weight for a player (considering level and mask requirements).
+     * Comes from the same eligibility brackets that back reward rolls.
      */
-    private double calculatePlayerTotalWeight(Player player, List<FishingReward> rewards) {
+    private double calculatePlayerTotalWeight(int playerLevel, boolean hasMask) {
         HeadHuntingHook hook = plugin.getHeadHuntingHook();
-        double total = 0;
-        
-        for (FishingReward reward : rewards) {
-            double weight = hook.calculateEffectiveWeight(
-                reward.getChance(), 
-                reward.getRarity(), 
-                reward.getRequiredLevel(), 
-                player
-            );
-            total += weight;
+        if (!hook.isEnabled()) {
+            return plugin.getRewardManager().getTotalWeight();
         }
-        
-        return total;
+        return plugin.getRewardManager().getEligibleWeight(playerLevel, hasMask);
     }
     
     /**
      * Create a display item for a reward (with catch % and sell price in lore)
      * Shows personalized catch rates based on player's HeadHunting level
      */
-    private ItemStack createRewardDisplayItem(FishingReward reward, double totalWeight, Player player) {
+    private ItemStack createRewardDisplayItem(FishingReward reward, double totalWeight, Player player,
+                                              int playerLevel, boolean hasMask) {
         ItemStack item;
         
         if (reward.hasItem()) {
-            item = reward.createItemStack().clone();
+            item = reward.createItemStack();
         } else {
             // Command-only reward - show a paper
             item = new ItemStack(Material.PAPER);
@@ -365,7 +354,7 @@ public class FishingGUI implements Listener {
         // Set display name with rarity color
         String displayName = reward.getItemDisplayName();
         if (!displayName.startsWith("§")) {
-            displayName = MessageUtils.getRarityColor(reward.getRarity()) + displayName;
+            displayName = reward.getRarity().getColor() + displayName;
         }
         meta.setDisplayName(displayName);
         
@@ -373,7 +362,7 @@ public class FishingGUI implements Listener {
         List<String> lore = new ArrayList<>();
         
         // Rarity tag
-        lore.add(MessageUtils.color(MessageUtils.getRarityColor(reward.getRarity()) + reward.getRarity()));
+        lore.add(reward.getRarity().getColor() + reward.getRarity().getName());
         lore.add("");
         
         // Original lore if exists
@@ -388,21 +377,14 @@ public class FishingGUI implements Listener {
             }
         }
         
-        // Calculate personalized catch chance
+        // Check if player can catch this (same rules as the roll brackets)
         HeadHuntingHook hook = plugin.getHeadHuntingHook();
-        double effectiveWeight = hook.calculateEffectiveWeight(
-            reward.getChance(),
-            reward.getRarity(),
-            reward.getRequiredLevel(),
-            player
-        );
-        
-        // Check if player can catch this
-        if (effectiveWeight <= 0) {
+        boolean eligible = !hook.isEnabled() || EligibilityBrackets.isEligible(reward, playerLevel, hasMask);
+        
+        if (!eligible) {
             // Player doesn't meet requirements
             lore.add(MessageUtils.color("&c✖ Locked"));
             if (reward.getRequiredLevel() > 0) {
-                int playerLevel = hook.isEnabled() ? hook.getPlayerLevel(player) : 1;
                 lore.add(MessageUtils.color("&7Requires Level: &e" + reward.getRequiredLevel() + 
                     " &7(You: &" + (playerLevel >= reward.getRequiredLevel() ? "a" : "c") + playerLevel + "&7)"));
             }
@@ -410,13 +392,13 @@ public class FishingGUI implements Listener {
                 lore.add(MessageUtils.color("&7Requires: &bGuardian Mask"));
             }
         } else {
-            // Calculate percentage with effective weight
-            double percentage = (effectiveWeight / totalWeight) * 100;
+            // Calculate percentage against the player's eligible weight
+            double percentage = (reward.getChance() / totalWeight) * 100;
             String chanceColor = percentage >= 10 ? "&a" : percentage >= 1 ? "&e" : "&c";
             lore.add(MessageUtils.color("&7Catch Rate: " + chanceColor + String.format("%.2f%%", percentage)));
             
             // Show if boosted by guardian mask
-            if (hook.isEnabled() && hook.hasGuardianMask(player)) {
+            if (hook.isEnabled() && hasMask) {
                 double basePercentage = (reward.getChance() / totalWeight) * 100;
                 if (percentage > basePercentage) {
                     lore.add(MessageUtils.color("&d⚡ Guardian Boost Active!"));
@@ -447,7 +429,7 @@ public class FishingGUI implements Listener {
         }
         
         // Type indicator
-        if (!reward.getCommands().isEmpty()) {
+        if (!reward.getActions().isEmpty()) {
             lore.add("");
             lore.add(MessageUtils.color("&d+ Command Reward"));
         }
@@ -465,37 +447,11 @@ public class FishingGUI implements Listener {
     /**
      * Create a rarity category item for the main menu
      */
-    private ItemStack createRarityItem(String rarity, int count, double percentage) {
-        Material material;
-        short data = 0;
-        
-        switch (rarity) {
-            case "COMMON":
-                material = Material.RAW_FISH;
-                break;
-            case "UNCOMMON":
-                material = Material.RAW_FISH;
-                data = 1; // Salmon
-                break;
-            case "RARE":
-                material = Material.RAW_FISH;
-                data = 2; // Clownfish
-                break;
-            case "EPIC":
-                material = Material.RAW_FISH;
-                data = 3; // Pufferfish
-                break;
-            case "LEGENDARY":
-                material = Material.GOLDEN_APPLE;
-                break;
-            default:
-                material = Material.PAPER;
-        }
-        
-        ItemStack item = new ItemStack(material, 1, data);
+    private ItemStack createRarityItem(Rarity rarity, int count, double percentage) {
+        ItemStack item = new ItemStack(rarity.getIcon(), 1, rarity.getIconData());
         ItemMeta meta = item.getItemMeta();
         
-        meta.setDisplayName(MessageUtils.color(MessageUtils.getRarityColor(rarity) + "&l" + rarity));
+        meta.setDisplayName(rarity.getColor() + MessageUtils.color("&l" + rarity.getName()));
         meta.setLore(Arrays.asList(
                 "",
                 MessageUtils.color("&7Items: &f" + count),
@@ -538,11 +494,12 @@ public class FishingGUI implements Listener {
         if (guiType == null) return;
         
         // Check if clicking in our GUI
+        RarityRegistry rarities = plugin.getRewardManager().getRarities();
         String title = event.getInventory().getTitle();
         if (!title.contains("Warzone Fishing") && 
             !title.contains("Fish") && 
             !title.contains("All Rewards") &&
-            !RARITY_ORDER.stream().anyMatch(r -> title.toUpperCase().contains(r))) {
+            !rarities.getNames().stream().anyMatch(r -> title.toUpperCase().contains(r))) {
             return;
         }
         
@@ -559,12 +516,11 @@ public class FishingGUI implements Listener {
         
         // Handle main menu clicks
         if (guiType.equals("main")) {
-            // Check if clicking a rarity
-            for (String rarity : RARITY_ORDER) {
-                if (name.toUpperCase().contains(rarity)) {
-                    openRarityPage(player, rarity, 0);
-                    return;
-                }
+            // Check if clicking a rarity (exact match, so UNCOMMON never opens COMMON)
+            Rarity rarity = rarities.get(ChatColor.stripColor(name));
+            if (rarity != null) {
+                openRarityPage(player, rarity, 0);
+                return;
             }
             
             // View All
@@ -595,8 +551,7 @@ public class FishingGUI implements Listener {
                 if (guiType.equals("all")) {
                     openAllRewards(player, currentPage - 1);
                 } else {
-                    String rarity = guiType.replace("rarity:", "");
-                    openRarityPage(player, rarity, currentPage - 1);
+                    openRarityPage(player, resolvePageRarity(rarities, guiType), currentPage - 1);
                 }
                 return;
             }
@@ -606,8 +561,7 @@ public class FishingGUI implements Listener {
                 if (guiType.equals("all")) {
                     openAllRewards(player, currentPage + 1);
                 } else {
-                    String rarity = guiType.replace("rarity:", "");
-                    openRarityPage(player, rarity, currentPage + 1);
+                    openRarityPage(player, resolvePageRarity(rarities, guiType), currentPage + 1);
                 }
                 return;
             }
@@ -620,6 +574,15 @@ public class FishingGUI implements Listener {
         }
     }
     
+    /**
+     * Resolve the rarity of an open "rarity:NAME" page, falling back to the lowest tier
+     * if it disappeared in a reload
+     */
+    private Rarity resolvePageRarity(RarityRegistry rarities, String guiType) {
+        Rarity rarity = rarities.get(guiType.substring("rarity:".length()));
+        return rarity != null ? rarity : rarities.getLowest();
+    }
+    
     /**
      * Clean up when inventory is closed
      */
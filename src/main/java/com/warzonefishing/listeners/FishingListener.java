@@ -1,15 +1,18 @@
 package com.warzonefishing.listeners;
 
 import com.warzonefishing.WarzoneFishing;
+import com.warzonefishing.actions.RewardAction;
 import com.warzonefishing.hooks.HeadHuntingHook;
+import com.warzonefishing.managers.CooldownStore;
 import com.warzonefishing.models.FishingReward;
+import com.warzonefishing.pipeline.CatchContext;
+import com.warzonefishing.pipeline.CatchPipeline;
 import com.warzonefishing.stats.CatchStatistics;
+import com.warzonefishing.utils.MessageTemplate;
 import com.warzonefishing.utils.MessageUtils;
 import com.warzonefishing.utils.TitleAPI;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Sound;
-import org.bukkit.World;
 import org.bukkit.entity.Fish;
 import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
@@ -18,14 +21,9 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerFishEvent;
 import org.bukkit.event.player.PlayerFishEvent.State;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.plugin.Plugin;
 
-import java.lang.reflect.Field;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -35,87 +33,78 @@ import java.util.UUID;
 public class FishingListener implements Listener {
     
     private final WarzoneFishing plugin;
-    private final Map<UUID, Long> cooldowns;
+    private final CatchPipeline pipeline;
     
-    // Cached NMS fields for fish hook wait time manipulation
-    private Field nmsEntityField;
-    private Field waitTimeField;
-    private boolean nmsInitialized = false;
-    private boolean nmsAvailable = false;
+    private final HookBoostTask hookBoosts;
     
     public FishingListener(WarzoneFishing plugin) {
         this.plugin = plugin;
-        this.cooldowns = new HashMap<>();
+        this.pipeline = buildPipeline();
+        this.hookBoosts = new HookBoostTask(plugin);
+        this.hookBoosts.start();
     }
     
     /**
-     * Initialize NMS reflection for fish hook wait time manipulation.
-     * Tries v1_8_R3 first, then falls back to generic CraftFish approach.
+     * Build the catch pipeline. Gating, the roll and anything touching inventories,
+     * entities, commands or the online player list (broadcasts) stays on the main
+     * thread; feedback packets and statistics run afterwards on the pipeline's worker.
      */
-    private void initNMS() {
-        if (nmsInitialized) return;
-        nmsInitialized = true;
-        
-        try {
-            // Get CraftFish -> handle (NMS EntityFishingHook)
-            Class<?> craftFishClass = Class.forName("org.bukkit.craftbukkit.v1_8_R3.entity.CraftFish");
-            nmsEntityField = craftFishClass.getMethod("getHandle").getDeclaringClass().getMethod("getHandle").getDeclaringClass()
-                    .getDeclaredMethod("getHandle").getDeclaringClass().getDeclaredField("entity");
-        } catch (Exception ignored) {
-            // Fall through to try generic approach
-        }
-        
-        try {
-            // Generic approach: get the NMS entity via CraftEntity.getHandle()
-            // and then access the wait time field on EntityFishingHook
-            Class<?> nmsEntityFishingHook = Class.forName("net.minecraft.server.v1_8_R3.EntityFishingHook");
-            
-            // In 1.8.8 NMS, the fish hook has fields 'h' (max wait time) and 'ax'/'ay' or similar
-            // The wait time countdown field varies by exact build. Try common field names.
-            // In Spigot 1.8.8, EntityFishingHook has field 'h' for the bite timer
-            for (String fieldName : new String[]{"h", "ax", "ay", "g", "aw"}) {
-                try {
-                    waitTimeField = nmsEntityFishingHook.getDeclaredField(fieldName);
-                    waitTimeField.setAccessible(true);
-                    // Verify it's an int field
-                    if (waitTimeField.getType() == int.class) {
-                        nmsAvailable = true;
-                        plugin.getLogger().info("Fish hook wait time field found: " + fieldName + " (catch rate boost enabled)");
-                        return;
+    private CatchPipeline buildPipeline() {
+        return CatchPipeline.builder(plugin)
+                .sync("permission", context -> {
+                    if (!context.getPlayer().hasPermission("warzonefishing.fish")) context.cancel();
+                })
+                .sync("region", context -> {
+                    if (!plugin.getRegionProvider().isInWarzone(context.getHookLocation())) context.cancel();
+                })
+                .sync("cooldown", context -> {
+                    if (!checkCooldown(context.getPlayer(), context.getSettings())) context.cancel();
+                })
+                .sync("roll", this::rollReward)
+                .sync("remove-caught", context -> {
+                    if (context.getCaught() instanceof Item) context.getCaught().remove();
+                })
+                .sync("give-item", this::giveItem)
+                .sync("sound", this::playSound)
+                .sync("commands", this::executeCommands)
+                .sync("broadcast", context -> {
+                    if (context.getReward().shouldBroadcast()) {
+                        plugin.getBroadcastManager().broadcast(context.getReward(), context.getPlayer());
                     }
-                } catch (NoSuchFieldException ignored) {}
-            }
-            
-            // If no known field names work, try all int fields and find the one that looks like a timer
-            Field[] fields = nmsEntityFishingHook.getDeclaredFields();
-            for (Field f : fields) {
-                if (f.getType() == int.class) {
-                    f.setAccessible(true);
-                    // We'll use the first private int field as a candidate
-                    // and verify at runtime
-                    waitTimeField = f;
-                    nmsAvailable = true;
-                    plugin.getLogger().info("Fish hook wait time field candidate: " + f.getName() + " (catch rate boost enabled)");
-                    return;
-                }
-            }
-            
-            plugin.getLogger().warning("Could not find fish hook wait time field. Catch rate boost will be disabled.");
-            
-        } catch (ClassNotFoundException e) {
-            plugin.getLogger().warning("NMS classes not found (not 1.8.8?). Catch rate boost for guardian mask will be disabled.");
-        } catch (Exception e) {
-            plugin.getLogger().warning("Failed to initialize NMS for catch rate boost: " + e.getMessage());
-        }
+                })
+                .async("title", this::sendTitle)
+                .async("statistics", this::recordCatchStatistics)
+                .async("action-bar", this::sendActionBar)
+                .build();
+    }
+    
+    /**
+     * Get the catch pipeline
+     */
+    public CatchPipeline getPipeline() {
+        return pipeline;
+    }
+    
+    /**
+     * Get the task that applies catch rate boosts to cast hooks
+     */
+    public HookBoostTask getHookBoosts() {
+        return hookBoosts;
+    }
+    
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        plugin.getCooldownStore().clear(event.getPlayer().getUniqueId());
     }
     
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public void onPlayerFish(PlayerFishEvent event) {
         Player player = event.getPlayer();
+        ListenerSettings settings = plugin.getListenerSettings();
         
         // Handle cast/fishing state — apply catch rate boost for guardian mask
         if (event.getState() == State.FISHING) {
-            applyCatchRateBoost(player, event.getHook());
+            applyCatchRateBoost(player, event.getHook(), settings);
             return;
         }
         
@@ -124,126 +113,118 @@ public class FishingListener implements Listener {
             return;
         }
         
-        Location hookLocation = event.getHook().getLocation();
-        
-        // Check if player has permission
-        if (!player.hasPermission("warzonefishing.fish")) {
-            return;
-        }
-        
-        // Check if fishing in warzone
-        if (!isInWarzone(hookLocation)) {
-            return;
-        }
-        
-        // Check cooldown
-        if (!checkCooldown(player)) {
-            return;
-        }
+        pipeline.run(new CatchContext(player, event.getHook().getLocation(), event.getCaught(), settings));
+    }
+    
+    /**
+     * Get random reward (filtered by player level and mask requirements).
+     * If the rolled reward or its rarity is on cooldown, the reward is drawn again
+     * from the rewards that aren't; if none are left the vanilla catch is kept.
+     * The catch cooldown only starts once a reward was rolled.
+     */
+    private void rollReward(CatchContext context) {
+        Player player = context.getPlayer();
+        CooldownStore cooldowns = plugin.getCooldownStore();
+        UUID uuid = context.getUniqueId();
+        long now = System.currentTimeMillis();
         
-        // Get random reward (filtered by player level and mask requirements)
         FishingReward reward = plugin.getRewardManager().getRandomReward(player);
         if (reward == null) {
             plugin.getLogger().warning("No rewards configured! Using default catch.");
+            context.cancel();
             return;
         }
         
-        // Remove the original caught item
-        if (event.getCaught() instanceof Item) {
-            event.getCaught().remove();
-        }
-        
-        // Give item reward if applicable
-        ItemStack rewardItem = null;
-        if (reward.hasItem()) {
-            rewardItem = reward.createItemStack();
-            giveItem(player, rewardItem, hookLocation);
+        if (cooldowns.isThrottled(uuid, reward, now)) {
+            reward = plugin.getRewardManager().getRandomReward(player,
+                    candidate -> !cooldowns.isThrottled(uuid, candidate, now));
+            if (reward == null) {
+                MessageUtils.send(player, "&7Every reward you can catch is on cooldown, so you got a normal catch.");
+                context.cancel();
+                return;
+            }
         }
         
-        // Send title
-        sendTitle(player, reward, rewardItem);
-        
-        // Play sound
+        cooldowns.startReward(uuid, reward, now);
+        startCatchCooldown(player, context.getSettings(), now);
+        context.setReward(reward);
+    }
+    
+    /**
+     * Play the reward sound
+     */
+    private void playSound(CatchContext context) {
+        FishingReward reward = context.getReward();
         if (reward.getSound() != null) {
+            Player player = context.getPlayer();
             player.playSound(player.getLocation(), reward.getSound(), 
                     reward.getSoundVolume(), reward.getSoundPitch());
         }
-        
-        // Execute commands
-        executeCommands(player, reward, rewardItem);
-        
-        // Broadcast if enabled
-        if (reward.shouldBroadcast()) {
-            broadcastMessage(player, reward, rewardItem);
-        }
-        
-        // Record catch in statistics
-        recordCatchStatistics(player, reward);
-        
-        // Send action bar if configured
-        sendActionBar(player, reward, rewardItem);
     }
     
     /**
      * Record a catch in the statistics database and send a discovery message
      * if this is the player's first time catching this reward.
+     * Runs on the pipeline's worker; the message is sent back on the main thread.
      */
-    private void recordCatchStatistics(Player player, FishingReward reward) {
+    private void recordCatchStatistics(CatchContext context) {
         CatchStatistics stats = plugin.getCatchStatistics();
         if (stats == null) return;
         
-        boolean isNew = stats.recordCatch(player.getUniqueId(), reward.getId(), reward.getRarity());
+        FishingReward reward = context.getReward();
+        boolean isNew = stats.recordCatch(context.getUniqueId(), reward.getId(), reward.getRarity());
         
         // Send discovery message on first-time catch
         if (isNew) {
             String itemName = reward.getItemDisplayName();
-            player.sendMessage(MessageUtils.color(
-                    MessageUtils.PREFIX + "&3&l\u2726 NEW DISCOVERY! &7You caught your first &b" + itemName + "&7!"));
-            player.playSound(player.getLocation(), Sound.ORB_PICKUP, 1.0f, 1.2f);
+            context.runSync(() -> {
+                Player player = context.getPlayer();
+                if (!player.isOnline()) return;
+                player.sendMessage(MessageUtils.color(
+                        MessageUtils.PREFIX + "&3&l\u2726 NEW DISCOVERY! &7You caught your first &b" + itemName + "&7!"));
+                player.playSound(player.getLocation(), Sound.ORB_PICKUP, 1.0f, 1.2f);
+            });
         }
     }
     
     /**
-     * Check and update cooldown for a player
+     * Check the catch cooldown for a player
      * @return true if player can fish, false if on cooldown
      */
-    private boolean checkCooldown(Player player) {
+    private boolean checkCooldown(Player player, ListenerSettings settings) {
         if (player.hasPermission("warzonefishing.bypass.cooldown")) {
             return true;
         }
         
-        int cooldownSeconds = plugin.getConfig().getInt("settings.cooldown", 0);
+        int cooldownSeconds = settings.getCooldownSeconds();
         if (cooldownSeconds <= 0) {
             return true;
         }
         
-        // Clean up stale cooldown entries to prevent memory leak
-        if (cooldowns.size() > 100) {
-            long now = System.currentTimeMillis();
-            long expiry = cooldownSeconds * 2000L;
-            Iterator<Map.Entry<UUID, Long>> it = cooldowns.entrySet().iterator();
-            while (it.hasNext()) {
-                Map.Entry<UUID, Long> entry = it.next();
-                if (now - entry.getValue() > expiry) {
-                    it.remove();
-                }
-            }
-        }
-        
+        CooldownStore cooldowns = plugin.getCooldownStore();
         UUID uuid = player.getUniqueId();
         long now = System.currentTimeMillis();
-        long lastCatch = cooldowns.getOrDefault(uuid, 0L);
+        long remainingMillis = cooldowns.getRemaining(uuid, CooldownStore.CATCH, now);
         
-        if (now - lastCatch < cooldownSeconds * 1000L) {
-            int remaining = (int) ((cooldownSeconds * 1000L - (now - lastCatch)) / 1000);
+        if (remainingMillis > 0) {
+            int remaining = (int) (remainingMillis / 1000);
             MessageUtils.send(player, "&7Please wait &b" + remaining + "s &7before fishing again.");
             return false;
         }
-        
-        cooldowns.put(uuid, now);
         return true;
     }
     
+    /**
+     * Start the catch cooldown after a reward was rolled
+     */
+    private void startCatchCooldown(Player player, ListenerSettings settings, long now) {
+        int cooldownSeconds = settings.getCooldownSeconds();
+        if (cooldownSeconds <= 0 || player.hasPermission("warzonefishing.bypass.cooldown")) {
+            return;
+        }
+        plugin.getCooldownStore().start(player.getUniqueId(), CooldownStore.CATCH, cooldownSeconds * 1000L, now);
+    }
+    
     /**
      * Apply catch rate boost to the fishing hook by combining ALL three boost sources:
      * 1. Guardian mask bonus (player-specific, from HeadHunting ability)
@@ -252,15 +233,15 @@ public class FishingListener implements Listener {
      * 
      * All three are combined multiplicatively to determine total wait time reduction.
      */
-    private void applyCatchRateBoost(Player player, Fish hook) {
+    private void applyCatchRateBoost(Player player, Fish hook, ListenerSettings settings) {
+        if (!hookBoosts.isAvailable()) return;
+        
         HeadHuntingHook headHunting = plugin.getHeadHuntingHook();
         if (headHunting == null || !headHunting.isEnabled()) return;
         
         // Source 1: Guardian mask catch rate boost (e.g. 0.25 = 25% faster)
         double maskBoost = headHunting.getCatchRateBoost(player);
-        double configMultiplier = plugin.getConfig().getDouble("settings.guardian-mask.catch-rate-multiplier", 1.0);
-        double maxMaskBoost = plugin.getConfig().getDouble("settings.guardian-mask.max-catch-rate-boost", 0.50);
-        maskBoost = Math.min(maskBoost * configMultiplier, maxMaskBoost);
+        maskBoost = Math.min(maskBoost * settings.getMaskCatchRateMultiplier(), settings.getMaxMaskCatchRateBoost());
         // Convert to multiplier: 0.25 boost → 1.25x speed → wait time = 1/1.25
         double maskMultiplier = 1.0 + Math.max(maskBoost, 0.0);
         
@@ -281,58 +262,27 @@ public class FishingListener implements Listener {
         double reduction = 1.0 - (1.0 / totalMultiplier);
         
         // Cap reduction at 90% to prevent near-instant catches
-        double maxReduction = plugin.getConfig().getDouble("settings.max-catch-rate-reduction", 0.90);
-        reduction = Math.min(reduction, maxReduction);
+        reduction = Math.min(reduction, settings.getMaxCatchRateReduction());
         
         if (reduction <= 0) return;
         
-        // Schedule the wait time reduction for next tick (hook needs to be fully initialized)
-        final double finalReduction = reduction;
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            if (!hook.isValid()) return;
-            reduceHookWaitTime(hook, finalReduction);
-        }, 1L);
-    }
-    
-    /**
-     * Reduce the NMS fish hook wait time using reflection.
-     * In 1.8.8, EntityFishingHook has an int field controlling time until a fish bites.
-     */
-    private void reduceHookWaitTime(Fish hook, double boostPercent) {
-        initNMS();
-        
-        if (!nmsAvailable || waitTimeField == null) return;
-        
-        try {
-            // Get the NMS entity via CraftEntity.getHandle()
-            Object nmsEntity = hook.getClass().getMethod("getHandle").invoke(hook);
-            
-            int currentWait = waitTimeField.getInt(nmsEntity);
-            
-            // Only reduce if there's actual wait time set (> 0)
-            if (currentWait > 0) {
-                int reducedWait = (int) (currentWait * (1.0 - boostPercent));
-                // Minimum wait time of 20 ticks (1 second) to prevent instant catches
-                int minWait = plugin.getConfig().getInt("settings.guardian-mask.min-wait-ticks", 20);
-                reducedWait = Math.max(reducedWait, minWait);
-                
-                waitTimeField.setInt(nmsEntity, reducedWait);
-            }
-        } catch (Exception e) {
-            // Silently fail — don't spam console every cast
-            if (plugin.getConfig().getBoolean("settings.debug", false)) {
-                plugin.getLogger().warning("Failed to reduce hook wait time: " + e.getMessage());
-            }
-        }
+        // Reduce the wait time next tick (hook needs to be fully initialized)
+        hookBoosts.submit(hook, reduction, settings.getMinWaitTicks());
     }
     
     /**
      * Give an item to the player or drop it
      */
-    private void giveItem(Player player, ItemStack item, Location hookLocation) {
-        boolean dropAtHook = plugin.getConfig().getBoolean("settings.drop-at-hook", false);
+    private void giveItem(CatchContext context) {
+        FishingReward reward = context.getReward();
+        if (!reward.hasItem()) return;
+        
+        ItemStack item = reward.createItemStack();
+        context.setRewardItem(item);
         
-        if (dropAtHook) {
+        Player player = context.getPlayer();
+        Location hookLocation = context.getHookLocation();
+        if (context.getSettings().isDropAtHook()) {
             hookLocation.getWorld().dropItemNaturally(hookLocation, item);
         } else if (player.getInventory().firstEmpty() != -1) {
             player.getInventory().addItem(item);
@@ -346,188 +296,50 @@ public class FishingListener implements Listener {
     /**
      * Send title and subtitle to player
      */
-    private void sendTitle(Player player, FishingReward reward, ItemStack item) {
-        String title = replacePlaceholders(reward.getTitleMessage(), player, reward, item);
-        String subtitle = replacePlaceholders(reward.getSubtitleMessage(), player, reward, item);
-        
-        int fadeIn = plugin.getConfig().getInt("settings.title-fade-in", 10);
-        int stay = plugin.getConfig().getInt("settings.title-stay", 40);
-        int fadeOut = plugin.getConfig().getInt("settings.title-fade-out", 10);
-        
-        TitleAPI.sendTitle(player, title, subtitle, fadeIn, stay, fadeOut);
-    }
-    
-    /**
-     * Send action bar message if configured
-     */
-    private void sendActionBar(Player player, FishingReward reward, ItemStack item) {
-        String actionBarMsg = plugin.getConfig().getString("settings.action-bar-message", "");
-        if (actionBarMsg.isEmpty()) {
+    private void sendTitle(CatchContext context) {
+        FishingReward reward = context.getReward();
+        ListenerSettings settings = context.getSettings();
+        TitleAPI.PreparedText title = reward.prepare(reward.getTitleTemplate(), context.getPlayerName());
+        TitleAPI.PreparedText subtitle = reward.prepare(reward.getSubtitleTemplate(), context.getPlayerName());
+        
+        Player player = context.getPlayer();
+        if (!TitleAPI.isAvailable()) {
+            // Without NMS the title becomes a chat message, which must be sent on the main thread
+            context.runSync(() -> TitleAPI.sendTitle(player, title, subtitle,
+                    settings.getTitleFadeIn(), settings.getTitleStay(), settings.getTitleFadeOut()));
             return;
         }
-        
-        String message = replacePlaceholders(MessageUtils.color(actionBarMsg), player, reward, item);
-        TitleAPI.sendActionBar(player, message);
-    }
-    
-    /**
-     * Execute reward commands
-     */
-    private void executeCommands(Player player, FishingReward reward, ItemStack item) {
-        for (String command : reward.getCommands()) {
-            String parsedCommand = replacePlaceholders(command, player, reward, item);
-            Bukkit.dispatchCommand(Bukkit.getConsoleSender(), parsedCommand);
-        }
-    }
-    
-    /**
-     * Broadcast reward message to server
-     */
-    private void broadcastMessage(Player player, FishingReward reward, ItemStack item) {
-        String message = replacePlaceholders(reward.getBroadcastMessage(), player, reward, item);
-        Bukkit.broadcastMessage(message);
-    }
-    
-    /**
-     * Replace placeholders in a string
-     */
-    private String replacePlaceholders(String text, Player player, FishingReward reward, ItemStack item) {
-        if (text == null) return "";
-        
-        String itemName = reward.getItemDisplayName();
-        if (item != null && item.hasItemMeta() && item.getItemMeta().hasDisplayName()) {
-            itemName = item.getItemMeta().getDisplayName();
-        }
-        
-        return text
-                .replace("{player}", player.getName())
-                .replace("{item}", itemName)
-                .replace("{rarity}", reward.getRarity())
-                .replace("{rarity_color}", MessageUtils.getRarityColor(reward.getRarity()))
-                .replace("{id}", reward.getId());
-    }
-    
-    /**
-     * Check if a location is in the warzone
-     */
-    private boolean isInWarzone(Location location) {
-        String claimPlugin = plugin.getConfig().getString("settings.claim-plugin", "factions").toLowerCase();
-        
-        switch (claimPlugin) {
-            case "factions":
-            case "factionsuuid":
-                return isInFactionsWarzone(location);
-            case "worldguard":
-                return isInWorldGuardRegion(location);
-            case "none":
-                return isInConfiguredWorld(location);
-            default:
-                return isInFactionsWarzone(location);
-        }
+        TitleAPI.queueTitle(player, title, subtitle,
+                settings.getTitleFadeIn(), settings.getTitleStay(), settings.getTitleFadeOut());
     }
     
     /**
-     * Check Factions warzone
+     * Send action bar message if configured
      */
-    private boolean isInFactionsWarzone(Location location) {
-        try {
-            // Try FactionsUUID / SavageFactions / etc.
-            Class<?> boardClass = Class.forName("com.massivecraft.factions.Board");
-            Object board = boardClass.getMethod("getInstance").invoke(null);
-            
-            Class<?> fLocationClass = Class.forName("com.massivecraft.factions.FLocation");
-            Object fLocation = fLocationClass.getConstructor(Location.class).newInstance(location);
-            
-            Object faction = boardClass.getMethod("getFactionAt", fLocationClass).invoke(board, fLocation);
-            
-            if (faction != null) {
-                // Try isWarZone() method
-                try {
-                    Boolean isWarzone = (Boolean) faction.getClass().getMethod("isWarZone").invoke(faction);
-                    if (isWarzone != null && isWarzone) {
-                        return true;
-                    }
-                } catch (NoSuchMethodException ignored) {}
-                
-                // Try checking tag/id
-                try {
-                    String tag = (String) faction.getClass().getMethod("getTag").invoke(faction);
-                    if (tag != null && tag.equalsIgnoreCase("warzone")) {
-                        return true;
-                    }
-                } catch (NoSuchMethodException ignored) {}
-                
-                try {
-                    String id = (String) faction.getClass().getMethod("getId").invoke(faction);
-                    if (id != null && id.equalsIgnoreCase("warzone")) {
-                        return true;
-                    }
-                } catch (NoSuchMethodException ignored) {}
-            }
-        } catch (ClassNotFoundException e) {
-            // Factions not loaded
-        } catch (Exception e) {
-            plugin.getLogger().warning("Error checking Factions warzone: " + e.getMessage());
+    private void sendActionBar(CatchContext context) {
+        MessageTemplate template = context.getSettings().getActionBarTemplate();
+        if (template.isEmpty()) {
+            return;
         }
         
-        return false;
-    }
-    
-    /**
-     * Check WorldGuard region
-     */
-    private boolean isInWorldGuardRegion(Location location) {
-        String regionName = plugin.getConfig().getString("settings.worldguard-region", "warzone");
-        
-        try {
-            Plugin wgPlugin = Bukkit.getPluginManager().getPlugin("WorldGuard");
-            if (wgPlugin == null) {
-                return false;
-            }
-            
-            Class<?> wgClass = Class.forName("com.sk89q.worldguard.bukkit.WorldGuardPlugin");
-            Object regionManager = wgClass.getMethod("getRegionManager", World.class)
-                    .invoke(wgPlugin, location.getWorld());
-            
-            if (regionManager == null) {
-                return false;
-            }
-            
-            // Create vector
-            Class<?> vectorClass = Class.forName("com.sk89q.worldedit.Vector");
-            Object vector = vectorClass.getConstructor(double.class, double.class, double.class)
-                    .newInstance(location.getX(), location.getY(), location.getZ());
-            
-            // Get applicable regions
-            Object applicableRegions = regionManager.getClass()
-                    .getMethod("getApplicableRegions", vectorClass)
-                    .invoke(regionManager, vector);
-            
-            // Check each region
-            for (Object region : (Iterable<?>) applicableRegions) {
-                String id = (String) region.getClass().getMethod("getId").invoke(region);
-                if (id.equalsIgnoreCase(regionName)) {
-                    return true;
-                }
-            }
-        } catch (Exception e) {
-            plugin.getLogger().warning("Error checking WorldGuard region: " + e.getMessage());
+        Player player = context.getPlayer();
+        TitleAPI.PreparedText message = context.getReward().prepare(template, context.getPlayerName());
+        if (!TitleAPI.isAvailable()) {
+            // Without NMS the action bar becomes a chat message, which must be sent on the main thread
+            context.runSync(() -> TitleAPI.sendActionBar(player, message));
+            return;
         }
-        
-        return false;
+        TitleAPI.queueActionBar(player, message);
     }
     
     /**
-     * Check if location is in configured allowed worlds
+     * Queue reward commands and actions
      */
-    private boolean isInConfiguredWorld(Location location) {
-        List<String> worlds = plugin.getConfig().getStringList("settings.allowed-worlds");
-        
-        // If no worlds configured, allow all
-        if (worlds.isEmpty()) {
-            return true;
+    private void executeCommands(CatchContext context) {
+        FishingReward reward = context.getReward();
+        Player player = context.getPlayer();
+        for (RewardAction action : reward.getActions()) {
+            plugin.getCommandQueue().submit(() -> action.execute(player, reward));
         }
-        
-        return worlds.contains(location.getWorld().getName());
     }
 }
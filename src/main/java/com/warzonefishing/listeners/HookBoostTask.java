@@ -0,0 +1,217 @@
+package com.warzonefishing.listeners;
+
+import com.warzonefishing.WarzoneFishing;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Fish;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * Shortens the bite timer of freshly cast fish hooks.
+ * Casts are queued and one repeating task adjusts them all on the next tick, once
+ * the hook is fully initialized. The NMS handle and wait-time field are resolved
+ * once as MethodHandles, so a mass cast at event start costs one task run and no
+ * reflective lookups. Must only be used from the main thread.
+ */
+public class HookBoostTask {
+
+    private final WarzoneFishing plugin;
+    private final Queue<PendingHook> queue = new ArrayDeque<>();
+
+    private MethodHandle getHandle;     // (Object) Object
+    private MethodHandle getWaitTime;   // (Object) int
+    private MethodHandle setWaitTime;   // (Object, int) void
+    private BukkitTask task;
+
+    // Metrics
+    private long adjusted;
+    private int lastTickAdjusted;
+    private int peakTickAdjusted;
+
+    public HookBoostTask(WarzoneFishing plugin) {
+        this.plugin = plugin;
+        initNMS();
+    }
+
+    /**
+     * Resolve CraftFish.getHandle() and the EntityFishingHook wait time field.
+     * Leaves the handles null (boost disabled) if anything is missing.
+     */
+    private void initNMS() {
+        try {
+            String version = Bukkit.getServer().getClass().getPackage().getName().split("\\.")[3];
+            Class<?> craftFish = Class.forName("org.bukkit.craftbukkit." + version + ".entity.CraftFish");
+            Class<?> fishingHook = Class.forName("net.minecraft.server." + version + ".EntityFishingHook");
+
+            Field waitTimeField = findWaitTimeField(fishingHook);
+            if (waitTimeField == null) {
+                plugin.getLogger().warning("Could not find fish hook wait time field. Catch rate boost will be disabled.");
+                return;
+            }
+            waitTimeField.setAccessible(true);
+
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle handle = MethodHandles.publicLookup()
+                    .findVirtual(craftFish, "getHandle", MethodType.methodType(fishingHook))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            MethodHandle getter = lookup.unreflectGetter(waitTimeField)
+                    .asType(MethodType.methodType(int.class, Object.class));
+            MethodHandle setter = lookup.unreflectSetter(waitTimeField)
+                    .asType(MethodType.methodType(void.class, Object.class, int.class));
+
+            this.getHandle = handle;
+            this.getWaitTime = getter;
+            this.setWaitTime = setter;
+            plugin.getLogger().info("Fish hook wait time field found: " + waitTimeField.getName() + " (catch rate boost enabled)");
+        } catch (ClassNotFoundException e) {
+            plugin.getLogger().warning("NMS classes not found (not 1.8.8?). Catch rate boost for guardian mask will be disabled.");
+        } catch (Exception e) {
+            plugin.getLogger().warning("Failed to initialize NMS for catch rate boost: " + e.getMessage());
+        }
+    }
+
+    /**
+     * In Spigot 1.8.8 the bite timer is usually 'h'; the name varies by build, so try
+     * the common names and then fall back to the first int field.
+     */
+    private static Field findWaitTimeField(Class<?> fishingHook) {
+        for (String fieldName : new String[]{"h", "ax", "ay", "g", "aw"}) {
+            try {
+                Field field = fishingHook.getDeclaredField(fieldName);
+                if (field.getType() == int.class) {
+                    return field;
+                }
+            } catch (NoSuchFieldException ignored) {}
+        }
+        for (Field field : fishingHook.getDeclaredFields()) {
+            if (field.getType() == int.class) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Start draining queued hooks every tick
+     */
+    public void start() {
+        if (task == null && isAvailable()) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        queue.clear();
+    }
+
+    /**
+     * Check if the NMS wait time field could be resolved
+     */
+    public boolean isAvailable() {
+        return setWaitTime != null;
+    }
+
+    /**
+     * Queue a freshly cast hook for a wait time reduction on the next tick
+     * @param hook The fish hook
+     * @param reduction Fraction of the wait time to remove (0-1)
+     * @param minWaitTicks Lowest wait time the hook is reduced to
+     */
+    public void submit(Fish hook, double reduction, int minWaitTicks) {
+        if (task == null) return;
+        queue.add(new PendingHook(hook, reduction, minWaitTicks));
+    }
+
+    private void tick() {
+        int count = 0;
+        PendingHook pending;
+        while ((pending = queue.poll()) != null) {
+            if (pending.hook.isValid() && reduceWaitTime(pending)) {
+                count++;
+            }
+        }
+
+        lastTickAdjusted = count;
+        adjusted += count;
+        if (count > peakTickAdjusted) {
+            peakTickAdjusted = count;
+        }
+    }
+
+    /**
+     * Reduce the hook's wait time, if it has one set
+     * @return true if the wait time was changed
+     */
+    private boolean reduceWaitTime(PendingHook pending) {
+        try {
+            Object nmsHook = (Object) getHandle.invokeExact((Object) pending.hook);
+            int currentWait = (int) getWaitTime.invokeExact(nmsHook);
+
+            // Only reduce if there's actual wait time set (> 0)
+            if (currentWait <= 0) return false;
+
+            int reducedWait = (int) (currentWait * (1.0 - pending.reduction));
+            // Keep a minimum wait time to prevent instant catches
+            reducedWait = Math.max(reducedWait, pending.minWaitTicks);
+            setWaitTime.invokeExact(nmsHook, reducedWait);
+            return true;
+        } catch (Throwable t) {
+            // Silently fail — don't spam console every cast
+            if (plugin.getListenerSettings().isDebug()) {
+                plugin.getLogger().warning("Failed to reduce hook wait time: " + t.getMessage());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Get the number of queued hooks
+     */
+    public int getPending() {
+        return queue.size();
+    }
+
+    /**
+     * Get the total number of hooks adjusted since startup
+     */
+    public long getAdjusted() {
+        return adjusted;
+    }
+
+    /**
+     * Get the number of hooks adjusted in the most recent tick
+     */
+    public int getLastTickAdjusted() {
+        return lastTickAdjusted;
+    }
+
+    /**
+     * Get the most hooks adjusted in a single tick
+     */
+    public int getPeakTickAdjusted() {
+        return peakTickAdjusted;
+    }
+
+    private static final class PendingHook {
+
+        private final Fish hook;
+        private final double reduction;
+        private final int minWaitTicks;
+
+        PendingHook(Fish hook, double reduction, int minWaitTicks) {
+            this.hook = hook;
+            this.reduction = reduction;
+            this.minWaitTicks = minWaitTicks;
+        }
+    }
+}
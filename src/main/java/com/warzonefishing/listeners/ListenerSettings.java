@@ -0,0 +1,197 @@
+package com.warzonefishing.listeners;
+
+import com.warzonefishing.utils.MessageTemplate;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Immutable snapshot of the 'settings' section used by the fishing listener.
+ * Built once on enable and on every reload, so a catch or cast reads plain fields
+ * instead of walking the config. Invalid values are reported once while loading
+ * and replaced by their defaults.
+ */
+public final class ListenerSettings {
+
+    /**
+     * How warzone membership is decided
+     */
+    public enum ClaimPlugin {
+        FACTIONS,
+        WORLDGUARD,
+        NONE
+    }
+
+    private final ClaimPlugin claimPlugin;
+    private final Set<String> worldGuardRegions;
+    private final Set<String> allowedWorlds;
+    private final boolean dropAtHook;
+    private final int cooldownSeconds;
+    private final int titleFadeIn;
+    private final int titleStay;
+    private final int titleFadeOut;
+    private final MessageTemplate actionBarTemplate;
+    private final boolean debug;
+    private final double maskCatchRateMultiplier;
+    private final double maxMaskCatchRateBoost;
+    private final int minWaitTicks;
+    private final double maxCatchRateReduction;
+    private final boolean regionCacheEnabled;
+    private final int regionCacheTtlSeconds;
+
+    private ListenerSettings(ConfigurationSection section, Logger logger) {
+        this.claimPlugin = parseClaimPlugin(section.getString("claim-plugin", "factions"), logger);
+
+        Set<String> regions = new HashSet<>();
+        regions.add(section.getString("worldguard-region", "warzone"));
+        regions.addAll(section.getStringList("worldguard-regions"));
+        this.worldGuardRegions = Collections.unmodifiableSet(regions);
+
+        Set<String> worlds = new HashSet<>(section.getStringList("allowed-worlds"));
+        this.allowedWorlds = Collections.unmodifiableSet(worlds);
+
+        this.dropAtHook = section.getBoolean("drop-at-hook", false);
+        this.cooldownSeconds = atLeast(section, "cooldown", 0, 0, logger);
+        this.titleFadeIn = atLeast(section, "title-fade-in", 10, 0, logger);
+        this.titleStay = atLeast(section, "title-stay", 40, 0, logger);
+        this.titleFadeOut = atLeast(section, "title-fade-out", 10, 0, logger);
+        this.actionBarTemplate = MessageTemplate.compile(section.getString("action-bar-message", ""), true);
+        this.debug = section.getBoolean("debug", false);
+
+        this.maskCatchRateMultiplier = inRange(section, "guardian-mask.catch-rate-multiplier", 1.0, Double.MAX_VALUE, logger);
+        this.maxMaskCatchRateBoost = inRange(section, "guardian-mask.max-catch-rate-boost", 0.50, Double.MAX_VALUE, logger);
+        this.minWaitTicks = atLeast(section, "guardian-mask.min-wait-ticks", 20, 0, logger);
+        this.maxCatchRateReduction = inRange(section, "max-catch-rate-reduction", 0.90, 1.0, logger);
+
+        this.regionCacheEnabled = section.getBoolean("region-cache.enabled", true);
+        this.regionCacheTtlSeconds = atLeast(section, "region-cache.ttl-seconds", 300, 0, logger);
+    }
+
+    /**
+     * Compile the listener settings
+     * @param section The 'settings' config section (null uses every default)
+     * @param logger Logger for invalid values
+     * @return The settings snapshot
+     */
+    public static ListenerSettings load(ConfigurationSection section, Logger logger) {
+        return new ListenerSettings(section != null ? section : new YamlConfiguration(), logger);
+    }
+
+    private static ClaimPlugin parseClaimPlugin(String value, Logger logger) {
+        switch (value.toLowerCase(Locale.ROOT)) {
+            case "factions":
+            case "factionsuuid":
+                return ClaimPlugin.FACTIONS;
+            case "worldguard":
+                return ClaimPlugin.WORLDGUARD;
+            case "none":
+                return ClaimPlugin.NONE;
+            default:
+                logger.warning("Unknown claim-plugin '" + value + "', using factions.");
+                return ClaimPlugin.FACTIONS;
+        }
+    }
+
+    private static int atLeast(ConfigurationSection section, String path, int def, int min, Logger logger) {
+        int value = section.getInt(path, def);
+        if (value < min) {
+            logger.warning("settings." + path + " must be at least " + min + " (was " + value + "), using " + def + ".");
+            return def;
+        }
+        return value;
+    }
+
+    private static double inRange(ConfigurationSection section, String path, double def, double max, Logger logger) {
+        double value = section.getDouble(path, def);
+        if (value < 0 || value > max || Double.isNaN(value)) {
+            logger.warning("settings." + path + " is out of range (was " + value + "), using " + def + ".");
+            return def;
+        }
+        return value;
+    }
+
+    public ClaimPlugin getClaimPlugin() {
+        return claimPlugin;
+    }
+
+    /**
+     * Get the WorldGuard region IDs that count as warzone
+     */
+    public Set<String> getWorldGuardRegions() {
+        return worldGuardRegions;
+    }
+
+    /**
+     * Check if a world is allowed in 'none' mode (every world is allowed if none are listed)
+     */
+    public boolean isWorldAllowed(String worldName) {
+        return allowedWorlds.isEmpty() || allowedWorlds.contains(worldName);
+    }
+
+    public Set<String> getAllowedWorlds() {
+        return allowedWorlds;
+    }
+
+    public boolean isDropAtHook() {
+        return dropAtHook;
+    }
+
+    public int getCooldownSeconds() {
+        return cooldownSeconds;
+    }
+
+    public int getTitleFadeIn() {
+        return titleFadeIn;
+    }
+
+    public int getTitleStay() {
+        return titleStay;
+    }
+
+    public int getTitleFadeOut() {
+        return titleFadeOut;
+    }
+
+    /**
+     * Get the compiled action bar message (empty if disabled)
+     */
+    public MessageTemplate getActionBarTemplate() {
+        return actionBarTemplate;
+    }
+
+    public boolean isDebug() {
+        return debug;
+    }
+
+    public double getMaskCatchRateMultiplier() {
+        return maskCatchRateMultiplier;
+    }
+
+    public double getMaxMaskCatchRateBoost() {
+        return maxMaskCatchRateBoost;
+    }
+
+    public int getMinWaitTicks() {
+        return minWaitTicks;
+    }
+
+    public double getMaxCatchRateReduction() {
+        return maxCatchRateReduction;
+    }
+
+    public boolean isRegionCacheEnabled() {
+        return regionCacheEnabled;
+    }
+
+    /**
+     * Get how long a cached chunk verdict stays valid (0 = until cleared)
+     */
+    public int getRegionCacheTtlSeconds() {
+        return regionCacheTtlSeconds;
+    }
+}
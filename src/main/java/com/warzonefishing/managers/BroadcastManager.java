@@ -0,0 +1,237 @@
+package com.warzonefishing.managers;
+
+import com.warzonefishing.WarzoneFishing;
+import com.warzonefishing.models.FishingReward;
+import com.warzonefishing.models.Rarity;
+import com.warzonefishing.utils.MessageUtils;
+import com.warzonefishing.utils.TitleAPI;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+
+/**
+ * Sends reward broadcasts and tracks which players have turned them off.
+ * A broadcast is encoded into a single chat packet that is written to every
+ * recipient, instead of Bukkit.broadcastMessage converting it once per player.
+ * Opt-outs are stored in broadcasts.yml.
+ *
+ * Broadcasts are grouped per rarity over a short window: the first catch of a
+ * rarity opens the window, and when it closes a lone catch gets its normal message
+ * while several catches share one summary. This caps broadcasts at one per rarity
+ * per window, however many catches land during a boost event.
+ */
+public class BroadcastManager {
+
+    private static final int MAX_LISTED_PLAYERS = 5;
+
+    private final WarzoneFishing plugin;
+    private final File file;
+    private final Set<UUID> optedOut = ConcurrentHashMap.newKeySet();
+
+    // Open windows by rarity name, main thread only
+    private final Map<String, Window> windows = new HashMap<>();
+    private long windowTicks;
+    private String summaryFormat;
+
+    public BroadcastManager(WarzoneFishing plugin) {
+        this.plugin = plugin;
+        this.file = new File(plugin.getDataFolder(), "broadcasts.yml");
+        load();
+        loadSettings();
+    }
+
+    /**
+     * Read the aggregation settings from the config
+     */
+    public void loadSettings() {
+        int windowMs = plugin.getConfig().getInt("settings.broadcast-aggregation.window-ms", 2000);
+        if (windowMs < 0) {
+            plugin.getLogger().warning("settings.broadcast-aggregation.window-ms can't be negative, using 2000.");
+            windowMs = 2000;
+        }
+        String format = plugin.getConfig().getString("settings.broadcast-aggregation.summary-message",
+                "&3&l[FISHING] &b{count} &f{rarity_color}&l{rarity}&f catches: &b{players}");
+
+        // Round up so a short window still waits at least one tick
+        this.windowTicks = (windowMs + 49) / 50;
+        this.summaryFormat = MessageUtils.color(format);
+    }
+
+    /**
+     * Load opt-outs from disk
+     */
+    private void load() {
+        optedOut.clear();
+        if (!file.exists()) return;
+
+        YamlConfiguration data = YamlConfiguration.loadConfiguration(file);
+        for (String entry : data.getStringList("opted-out")) {
+            try {
+                optedOut.add(UUID.fromString(entry));
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("Invalid UUID in broadcasts.yml: " + entry);
+            }
+        }
+    }
+
+    /**
+     * Write opt-outs to disk
+     */
+    private void save() {
+        YamlConfiguration data = new YamlConfiguration();
+        List<String> entries = new ArrayList<>();
+        for (UUID uuid : optedOut) {
+            entries.add(uuid.toString());
+        }
+        data.set("opted-out", entries);
+
+        try {
+            data.save(file);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to save broadcasts.yml", e);
+        }
+    }
+
+    /**
+     * Check if a player receives fishing broadcasts
+     */
+    public boolean isEnabled(UUID player) {
+        return !optedOut.contains(player);
+    }
+
+    /**
+     * Turn fishing broadcasts on or off for a player
+     * @param player The player
+     * @return true if broadcasts are now enabled for the player
+     */
+    public boolean toggle(UUID player) {
+        boolean enabled = optedOut.remove(player);
+        if (!enabled) {
+            optedOut.add(player);
+        }
+        save();
+        return enabled;
+    }
+
+    /**
+     * Broadcast a reward's message to every player who has broadcasts enabled.
+     * With aggregation on, the message is held until the rarity's window closes.
+     * Must be called from the main thread, as the recipients come from the online player list.
+     *
+     * @param reward The caught reward
+     * @param player The player who caught it
+     */
+    public void broadcast(FishingReward reward, Player player) {
+        String playerName = player.getName();
+        String key = reward.getRarity().getName();
+
+        // While disabling nothing can be scheduled, so send right away
+        if (windowTicks > 0 && plugin.isEnabled()) {
+            Window window = windows.get(key);
+            if (window == null) {
+                window = new Window(reward, playerName);
+                windows.put(key, window);
+                Bukkit.getScheduler().runTaskLater(plugin, () -> flush(key), windowTicks);
+            } else {
+                window.add(playerName);
+            }
+            return;
+        }
+
+        send(reward.prepare(reward.getBroadcastTemplate(), playerName));
+    }
+
+    /**
+     * Close a rarity's window and send its message
+     */
+    private void flush(String key) {
+        Window window = windows.remove(key);
+        if (window == null) return;
+
+        FishingReward first = window.reward;
+        if (window.count == 1) {
+            send(first.prepare(first.getBroadcastTemplate(), window.players.iterator().next()));
+            return;
+        }
+
+        Rarity rarity = first.getRarity();
+        send(TitleAPI.prepare(summaryFormat
+                .replace("{count}", String.valueOf(window.count))
+                .replace("{rarity_color}", rarity.getColor())
+                .replace("{rarity}", rarity.getDisplayName())
+                .replace("{players}", window.listPlayers())));
+    }
+
+    /**
+     * Send every open window now (used on shutdown)
+     */
+    public void flushAll() {
+        for (String key : new ArrayList<>(windows.keySet())) {
+            flush(key);
+        }
+    }
+
+    /**
+     * Send a message to every player who has broadcasts enabled
+     */
+    private void send(TitleAPI.PreparedText message) {
+        if (message.isEmpty()) return;
+
+        List<Player> recipients = new ArrayList<>();
+        for (Player online : Bukkit.getOnlinePlayers()) {
+            if (!optedOut.contains(online.getUniqueId())) {
+                recipients.add(online);
+            }
+        }
+
+        TitleAPI.broadcast(message, recipients);
+        Bukkit.getConsoleSender().sendMessage(message.getText());
+    }
+
+    /**
+     * Catches of one rarity waiting to be broadcast
+     */
+    private static final class Window {
+
+        private final FishingReward reward;
+        private final Set<String> players = new LinkedHashSet<>();
+        private int count;
+
+        Window(FishingReward reward, String playerName) {
+            this.reward = reward;
+            add(playerName);
+        }
+
+        void add(String playerName) {
+            players.add(playerName);
+            count++;
+        }
+
+        String listPlayers() {
+            StringBuilder list = new StringBuilder();
+            int listed = 0;
+            for (String name : players) {
+                if (listed == MAX_LISTED_PLAYERS) {
+                    list.append(" and ").append(players.size() - listed).append(" more");
+                    break;
+                }
+                if (listed > 0) list.append(", ");
+                list.append(name);
+                listed++;
+            }
+            return list.toString();
+        }
+    }
+}
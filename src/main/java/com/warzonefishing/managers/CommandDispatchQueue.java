@@ -0,0 +1,172 @@
+package com.warzonefishing.managers;
+
+import com.warzonefishing.WarzoneFishing;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * Spreads reward commands and actions over several ticks.
+ * Tasks are queued in one FIFO, so each player's rewards run in the order they
+ * were earned, and a repeating task runs them until either the per-tick count
+ * or the per-tick time budget is used up. A burst such as 64 crate keys from
+ * /wf give then costs a few milliseconds over several ticks instead of one long tick.
+ * Anything still queued on shutdown is dispatched before the plugin disables.
+ */
+public class CommandDispatchQueue {
+
+    private final WarzoneFishing plugin;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depth = new AtomicInteger();
+
+    private int maxPerTick;
+    private long tickBudgetNanos;
+    private BukkitTask task;
+
+    // Metrics, only written on the main thread
+    private int peakDepth;
+    private long dispatched;
+    private int lastTickDispatched;
+
+    public CommandDispatchQueue(WarzoneFishing plugin) {
+        this.plugin = plugin;
+        loadSettings();
+    }
+
+    /**
+     * Read the queue budget from the config
+     */
+    public void loadSettings() {
+        int perTick = plugin.getConfig().getInt("settings.command-queue.max-per-tick", 20);
+        if (perTick < 1) {
+            plugin.getLogger().warning("settings.command-queue.max-per-tick must be at least 1, using 20.");
+            perTick = 20;
+        }
+        double budgetMs = plugin.getConfig().getDouble("settings.command-queue.tick-budget-ms", 2.0);
+        if (budgetMs <= 0 || Double.isNaN(budgetMs)) {
+            plugin.getLogger().warning("settings.command-queue.tick-budget-ms must be positive, using 2.0.");
+            budgetMs = 2.0;
+        }
+        this.maxPerTick = perTick;
+        this.tickBudgetNanos = (long) (budgetMs * 1_000_000L);
+    }
+
+    /**
+     * Start dispatching queued commands every tick
+     */
+    public void start() {
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Queue a console command
+     * @param command The command, without a leading slash
+     */
+    public void submit(String command) {
+        submit(() -> Bukkit.dispatchCommand(Bukkit.getConsoleSender(), command));
+    }
+
+    /**
+     * Queue the same console command several times
+     */
+    public void submit(String command, int times) {
+        for (int i = 0; i < times; i++) {
+            submit(command);
+        }
+    }
+
+    /**
+     * Queue a task to run on the main thread within the tick budget
+     * @param action The task, e.g. a reward action
+     */
+    public void submit(Runnable action) {
+        queue.add(action);
+        depth.incrementAndGet();
+    }
+
+    private void tick() {
+        int current = depth.get();
+        if (current > peakDepth) {
+            peakDepth = current;
+        }
+
+        long start = System.nanoTime();
+        int count = 0;
+        while (count < maxPerTick) {
+            Runnable next = queue.poll();
+            if (next == null) break;
+            depth.decrementAndGet();
+            dispatch(next);
+            count++;
+
+            if (System.nanoTime() - start >= tickBudgetNanos) break;
+        }
+
+        lastTickDispatched = count;
+        dispatched += count;
+    }
+
+    private void dispatch(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to run queued reward command", e);
+        }
+    }
+
+    /**
+     * Stop the queue task and dispatch everything still queued, so no reward is lost
+     */
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        int remaining = depth.get();
+        if (remaining > 0) {
+            plugin.getLogger().info("Dispatching " + remaining + " queued reward command(s) before shutdown...");
+        }
+
+        Runnable next;
+        while ((next = queue.poll()) != null) {
+            depth.decrementAndGet();
+            dispatch(next);
+            dispatched++;
+        }
+    }
+
+    /**
+     * Get the number of commands waiting to run
+     */
+    public int getDepth() {
+        return depth.get();
+    }
+
+    /**
+     * Get the highest queue depth seen since startup
+     */
+    public int getPeakDepth() {
+        return peakDepth;
+    }
+
+    /**
+     * Get the total number of commands dispatched
+     */
+    public long getDispatched() {
+        return dispatched;
+    }
+
+    /**
+     * Get the number of commands dispatched in the last tick
+     */
+    public int getLastTickDispatched() {
+        return lastTickDispatched;
+    }
+}
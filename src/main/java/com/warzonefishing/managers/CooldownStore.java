@@ -0,0 +1,318 @@
+package com.warzonefishing.managers;
+
+import com.warzonefishing.models.FishingReward;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-player cooldowns on named channels: the catch cooldown plus one channel per
+ * reward and per rarity tier that has a 'cooldown' set.
+ *
+ * Expiry times are kept in an open-addressing table keyed by (UUID, channel) with
+ * primitive arrays, so a check allocates nothing. Expired entries are removed by a
+ * hashed timer wheel with one-second slots: each entry sits in the slot of its expiry
+ * second and is only looked at when that slot comes round, instead of sweeping
+ * every entry on every catch. Must only be used from the main thread.
+ */
+public class CooldownStore {
+
+    /** Channel of the global catch cooldown */
+    public static final int CATCH = 0;
+
+    private static final long SLOT_MILLIS = 1000L;
+    private static final int WHEEL_SLOTS = 64;
+
+    // Open addressing with linear probing; expiries[i] == 0 marks a free slot
+    private long[] msbs;
+    private long[] lsbs;
+    private int[] channels;
+    private long[] expiries;
+    private int mask;
+    private int size;
+
+    private final Bucket[] wheel = new Bucket[WHEEL_SLOTS];
+    private Bucket spare = new Bucket();
+    private long currentSlot;
+    private BukkitTask task;
+
+    private final Map<String, Integer> rewardChannels = new HashMap<>();
+    private final Map<String, Integer> rarityChannels = new HashMap<>();
+    private int channelCount = 1;
+
+    public CooldownStore() {
+        allocate(256);
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel[i] = new Bucket();
+        }
+        currentSlot = System.currentTimeMillis() / SLOT_MILLIS;
+    }
+
+    /**
+     * Start turning the timer wheel once a second
+     */
+    public void start(Plugin plugin) {
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, () -> advance(System.currentTimeMillis()), 20L, 20L);
+        }
+    }
+
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    // ============ Channels ============
+
+    /**
+     * Get the channel for a reward's own cooldown
+     */
+    public int rewardChannel(String rewardId) {
+        return channel(rewardChannels, rewardId);
+    }
+
+    /**
+     * Get the channel for a rarity tier's cooldown
+     */
+    public int rarityChannel(String rarityName) {
+        return channel(rarityChannels, rarityName);
+    }
+
+    private int channel(Map<String, Integer> channelsByName, String name) {
+        Integer channel = channelsByName.get(name);
+        if (channel == null) {
+            channel = channelCount++;
+            channelsByName.put(name, channel);
+        }
+        return channel;
+    }
+
+    // ============ Cooldowns ============
+
+    /**
+     * Get the time left on a cooldown
+     * @return Milliseconds remaining, or 0 if the player is not on cooldown
+     */
+    public long getRemaining(UUID player, int channel, long now) {
+        int index = find(player.getMostSignificantBits(), player.getLeastSignificantBits(), channel);
+        if (index < 0) return 0L;
+        long remaining = expiries[index] - now;
+        return remaining > 0 ? remaining : 0L;
+    }
+
+    /**
+     * Put a player on cooldown, replacing any cooldown on the same channel
+     */
+    public void start(UUID player, int channel, long durationMillis, long now) {
+        if (durationMillis <= 0) return;
+
+        long msb = player.getMostSignificantBits();
+        long lsb = player.getLeastSignificantBits();
+        long expiry = now + durationMillis;
+
+        int index = slot(msb, lsb, channel);
+        while (expiries[index] != 0) {
+            if (msbs[index] == msb && lsbs[index] == lsb && channels[index] == channel) {
+                // Already on the wheel; a later expiry is picked up when its slot comes round
+                expiries[index] = expiry;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        msbs[index] = msb;
+        lsbs[index] = lsb;
+        channels[index] = channel;
+        expiries[index] = expiry;
+        schedule(msb, lsb, channel, expiry);
+
+        // Keep the load factor at or below 3/4
+        if (++size * 4 > expiries.length * 3) {
+            grow();
+        }
+    }
+
+    /**
+     * Check if a reward is blocked by its own or its rarity's cooldown
+     */
+    public boolean isThrottled(UUID player, FishingReward reward, long now) {
+        if (reward.getCooldownSeconds() > 0
+                && getRemaining(player, rewardChannel(reward.getId()), now) > 0) {
+            return true;
+        }
+        return reward.getRarity().getCooldownSeconds() > 0
+                && getRemaining(player, rarityChannel(reward.getRarity().getName()), now) > 0;
+    }
+
+    /**
+     * Start a reward's own and rarity cooldowns after it was rolled
+     */
+    public void startReward(UUID player, FishingReward reward, long now) {
+        if (reward.getCooldownSeconds() > 0) {
+            start(player, rewardChannel(reward.getId()), reward.getCooldownSeconds() * 1000L, now);
+        }
+        if (reward.getRarity().getCooldownSeconds() > 0) {
+            start(player, rarityChannel(reward.getRarity().getName()),
+                    reward.getRarity().getCooldownSeconds() * 1000L, now);
+        }
+    }
+
+    /**
+     * Remove every cooldown of a player (e.g. when they log out)
+     */
+    public void clear(UUID player) {
+        long msb = player.getMostSignificantBits();
+        long lsb = player.getLeastSignificantBits();
+        for (int channel = 0; channel < channelCount; channel++) {
+            int index = find(msb, lsb, channel);
+            if (index >= 0) {
+                removeAt(index);
+            }
+        }
+    }
+
+    /**
+     * Get the number of active cooldown entries
+     */
+    public int size() {
+        return size;
+    }
+
+    // ============ Timer wheel ============
+
+    /**
+     * Remove entries whose wheel slots have come round
+     * @param now The current time in milliseconds
+     */
+    void advance(long now) {
+        long targetSlot = now / SLOT_MILLIS;
+        while (currentSlot < targetSlot) {
+            currentSlot++;
+            int wheelIndex = (int) (currentSlot & (WHEEL_SLOTS - 1));
+
+            // Swap in an empty bucket, so rescheduled entries can land in this slot again
+            Bucket due = wheel[wheelIndex];
+            wheel[wheelIndex] = spare;
+            spare = due;
+
+            for (int i = 0; i < due.size; i++) {
+                int index = find(due.msbs[i], due.lsbs[i], due.channels[i]);
+                if (index < 0) continue; // Cleared in the meantime
+
+                if (expiries[index] <= now) {
+                    removeAt(index);
+                } else {
+                    // Extended, or more than one lap away
+                    schedule(due.msbs[i], due.lsbs[i], due.channels[i], expiries[index]);
+                }
+            }
+            due.size = 0;
+        }
+    }
+
+    private void schedule(long msb, long lsb, int channel, long expiry) {
+        long expirySlot = Math.max((expiry + SLOT_MILLIS - 1) / SLOT_MILLIS, currentSlot + 1);
+        wheel[(int) (expirySlot & (WHEEL_SLOTS - 1))].add(msb, lsb, channel);
+    }
+
+    // ============ Table ============
+
+    private int find(long msb, long lsb, int channel) {
+        int index = slot(msb, lsb, channel);
+        while (expiries[index] != 0) {
+            if (msbs[index] == msb && lsbs[index] == lsb && channels[index] == channel) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Remove an entry, shifting back later entries of the same probe run
+     */
+    private void removeAt(int index) {
+        int gap = index;
+        int next = index;
+        while (true) {
+            next = (next + 1) & mask;
+            if (expiries[next] == 0) break;
+
+            int home = slot(msbs[next], lsbs[next], channels[next]);
+            // The entry may move into the gap if the gap lies between its home and where it is
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                msbs[gap] = msbs[next];
+                lsbs[gap] = lsbs[next];
+                channels[gap] = channels[next];
+                expiries[gap] = expiries[next];
+                gap = next;
+            }
+        }
+        expiries[gap] = 0;
+        size--;
+    }
+
+    private void grow() {
+        long[] oldMsbs = msbs;
+        long[] oldLsbs = lsbs;
+        int[] oldChannels = channels;
+        long[] oldExpiries = expiries;
+        allocate(oldExpiries.length * 2);
+
+        for (int i = 0; i < oldExpiries.length; i++) {
+            if (oldExpiries[i] == 0) continue;
+            int index = slot(oldMsbs[i], oldLsbs[i], oldChannels[i]);
+            while (expiries[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            msbs[index] = oldMsbs[i];
+            lsbs[index] = oldLsbs[i];
+            channels[index] = oldChannels[i];
+            expiries[index] = oldExpiries[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        msbs = new long[capacity];
+        lsbs = new long[capacity];
+        channels = new int[capacity];
+        expiries = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slot(long msb, long lsb, int channel) {
+        long hash = (msb ^ lsb ^ (channel * 0x9E3779B97F4A7C15L)) * 0xBF58476D1CE4E5B9L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * Growable list of entry keys in one wheel slot
+     */
+    private static final class Bucket {
+
+        private long[] msbs = new long[8];
+        private long[] lsbs = new long[8];
+        private int[] channels = new int[8];
+        private int size;
+
+        void add(long msb, long lsb, int channel) {
+            if (size == channels.length) {
+                int capacity = size * 2;
+                msbs = Arrays.copyOf(msbs, capacity);
+                lsbs = Arrays.copyOf(lsbs, capacity);
+                channels = Arrays.copyOf(channels, capacity);
+            }
+            msbs[size] = msb;
+            lsbs[size] = lsb;
+            channels[size] = channel;
+            size++;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.warzonefishing.managers;
+
+import com.warzonefishing.models.FishingReward;
+import com.warzonefishing.utils.AliasTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Precompiled reward samplers for every (level threshold, guardian mask) bracket.
+ * Eligibility only depends on a reward's required level and mask requirement, so
+ * one alias table per distinct threshold covers every possible player. A roll is
+ * then a binary search on the player's level plus an O(1) draw.
+ */
+public final class EligibilityBrackets {
+
+    private static final EligibilityBrackets EMPTY = build(new ArrayList<FishingReward>());
+
+    // Ascending distinct level thresholds, always starting at 0
+    private final int[] thresholds;
+    private final AliasTable<FishingReward>[] withoutMask;
+    private final AliasTable<FishingReward>[] withMask;
+    private final boolean hasMaskRewards;
+
+    private EligibilityBrackets(int[] thresholds, AliasTable<FishingReward>[] withoutMask,
+                                AliasTable<FishingReward>[] withMask, boolean hasMaskRewards) {
+        this.thresholds = thresholds;
+        this.withoutMask = withoutMask;
+        this.withMask = withMask;
+        this.hasMaskRewards = hasMaskRewards;
+    }
+
+    /**
+     * Get brackets that never select anything
+     */
+    public static EligibilityBrackets empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Compile the bracket samplers for a reward catalog
+     * @param rewards All loaded rewards
+     * @return The compiled brackets
+     */
+    @SuppressWarnings("unchecked")
+    public static EligibilityBrackets build(List<FishingReward> rewards) {
+        // Collect distinct thresholds (0 is always present for unrestricted rewards)
+        int[] levels = new int[rewards.size() + 1];
+        int count = 1;
+        boolean hasMaskRewards = false;
+        for (FishingReward reward : rewards) {
+            levels[count++] = threshold(reward);
+            hasMaskRewards |= reward.requiresGuardianMask();
+        }
+        int[] thresholds = Arrays.stream(levels, 0, count).distinct().sorted().toArray();
+
+        AliasTable<FishingReward>[] withoutMask = new AliasTable[thresholds.length];
+        AliasTable<FishingReward>[] withMask = new AliasTable[thresholds.length];
+
+        List<FishingReward> plain = new ArrayList<>();
+        List<FishingReward> masked = new ArrayList<>();
+        for (int i = 0; i < thresholds.length; i++) {
+            plain.clear();
+            masked.clear();
+            for (FishingReward reward : rewards) {
+                if (threshold(reward) > thresholds[i]) continue;
+                masked.add(reward);
+                if (!reward.requiresGuardianMask()) {
+                    plain.add(reward);
+                }
+            }
+            withoutMask[i] = AliasTable.build(plain, FishingReward::getChance);
+            // Without any mask rewards both variants are identical, so share the table
+            withMask[i] = hasMaskRewards ? AliasTable.build(masked, FishingReward::getChance) : withoutMask[i];
+        }
+
+        return new EligibilityBrackets(thresholds, withoutMask, withMask, hasMaskRewards);
+    }
+
+    /**
+     * Check if a reward is available to a player of the given level and mask state
+     * @param reward The reward to check
+     * @param level The player's HeadHunting level
+     * @param hasGuardianMask Whether the player has a guardian mask equipped
+     * @return true if the reward can be caught
+     */
+    public static boolean isEligible(FishingReward reward, int level, boolean hasGuardianMask) {
+        if (reward.requiresGuardianMask() && !hasGuardianMask) {
+            return false;
+        }
+        return threshold(reward) <= Math.max(level, 0);
+    }
+
+    /**
+     * Get the sampler for a player's bracket
+     * @param level The player's HeadHunting level
+     * @param hasGuardianMask Whether the player has a guardian mask equipped
+     * @return The alias table of rewards the player qualifies for
+     */
+    public AliasTable<FishingReward> getSampler(int level, boolean hasGuardianMask) {
+        int bracket = bracketFor(level);
+        return hasGuardianMask ? withMask[bracket] : withoutMask[bracket];
+    }
+
+    /**
+     * Get the total eligible weight for a player's bracket
+     */
+    public double getTotalWeight(int level, boolean hasGuardianMask) {
+        return getSampler(level, hasGuardianMask).getTotalWeight();
+    }
+
+    /**
+     * Check if any reward requires a guardian mask.
+     * When false the mask lookup can be skipped entirely.
+     */
+    public boolean hasMaskRewards() {
+        return hasMaskRewards;
+    }
+
+    /**
+     * Find the highest threshold not above the given level
+     */
+    private int bracketFor(int level) {
+        int low = 0;
+        int high = thresholds.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (thresholds[mid] <= level) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * A required level of 0 or less means no requirement
+     */
+    private static int threshold(FishingReward reward) {
+        return Math.max(reward.getRequiredLevel(), 0);
+    }
+}
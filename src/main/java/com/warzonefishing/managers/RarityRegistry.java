@@ -0,0 +1,232 @@
+package com.warzonefishing.managers;
+
+import com.warzonefishing.models.Rarity;
+import org.bukkit.Material;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Immutable registry of rarity tiers, ordered from most common to rarest.
+ * Built from the 'rarities' config section (falling back to the five built-in tiers),
+ * so server owners can add their own tiers. Tiers are indexed by ordinal, which lets
+ * stats and GUIs use plain arrays instead of string maps.
+ */
+public final class RarityRegistry {
+
+    private static final RarityRegistry DEFAULTS = builder().addDefaults().build();
+
+    private final Rarity[] tiers;
+    private final Map<String, Rarity> byName;
+    private final List<Rarity> view;
+    private final List<String> names;
+
+    private RarityRegistry(Rarity[] tiers) {
+        this.tiers = tiers;
+        this.byName = new HashMap<>();
+        List<String> tierNames = new ArrayList<>();
+        for (Rarity rarity : tiers) {
+            byName.put(rarity.getName(), rarity);
+            tierNames.add(rarity.getName());
+        }
+        this.view = Collections.unmodifiableList(Arrays.asList(tiers));
+        this.names = Collections.unmodifiableList(tierNames);
+    }
+
+    /**
+     * Get the registry holding only the built-in tiers
+     */
+    public static RarityRegistry defaults() {
+        return DEFAULTS;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Get a tier by name (case-insensitive)
+     * @param name The tier name
+     * @return The tier, or null if not registered
+     */
+    public Rarity get(String name) {
+        if (name == null) return null;
+        Rarity rarity = byName.get(name);
+        return rarity != null ? rarity : byName.get(name.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Get a tier by ordinal
+     */
+    public Rarity get(int ordinal) {
+        return tiers[ordinal];
+    }
+
+    /**
+     * Resolve a tier's ordinal in this registry.
+     * A tier from an older registry (before a reload) is matched by name instead.
+     *
+     * @param rarity The tier to resolve
+     * @return The ordinal, or -1 if the tier no longer exists
+     */
+    public int indexOf(Rarity rarity) {
+        if (rarity == null) return -1;
+        int ordinal = rarity.getOrdinal();
+        if (ordinal < tiers.length && tiers[ordinal] == rarity) {
+            return ordinal;
+        }
+        Rarity current = byName.get(rarity.getName());
+        return current != null ? current.getOrdinal() : -1;
+    }
+
+    /**
+     * Get all tiers from most common to rarest
+     */
+    public List<Rarity> getRarities() {
+        return view;
+    }
+
+    /**
+     * Get all tier names from most common to rarest
+     */
+    public List<String> getNames() {
+        return names;
+    }
+
+    /**
+     * Get the most common tier
+     */
+    public Rarity getLowest() {
+        return tiers[0];
+    }
+
+    public int size() {
+        return tiers.length;
+    }
+
+    /**
+     * Collects tiers in rank order before freezing them into a registry
+     */
+    public static final class Builder {
+
+        private final Map<String, Rarity> tiers = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Add the five built-in tiers
+         */
+        public Builder addDefaults() {
+            add("COMMON", null, "&7", (short) 7, Material.RAW_FISH, (short) 0, 0);
+            add("UNCOMMON", null, "&a", (short) 5, Material.RAW_FISH, (short) 1, 0);
+            add("RARE", null, "&3", (short) 9, Material.RAW_FISH, (short) 2, 0);
+            add("EPIC", null, "&5", (short) 10, Material.RAW_FISH, (short) 3, 0);
+            add("LEGENDARY", null, "&6", (short) 1, Material.GOLDEN_APPLE, (short) 0, 0);
+            return this;
+        }
+
+        /**
+         * Load tiers from a config section, in the order they are listed.
+         * Falls back to the built-in tiers if the section is missing or empty.
+         *
+         * @param section The 'rarities' section (may be null)
+         * @param logger Logger for invalid entries
+         */
+        public Builder load(ConfigurationSection section, Logger logger) {
+            if (section == null || section.getKeys(false).isEmpty()) {
+                return addDefaults();
+            }
+
+            for (String key : section.getKeys(false)) {
+                ConfigurationSection tier = section.getConfigurationSection(key);
+                if (tier == null) continue;
+
+                String iconName = tier.getString("icon", "PAPER");
+                Material icon = Material.getMaterial(iconName.toUpperCase());
+                if (icon == null) {
+                    logger.warning("Invalid icon for rarity '" + key + "': " + iconName + ", using PAPER");
+                    icon = Material.PAPER;
+                }
+
+                int cooldown = tier.getInt("cooldown", 0);
+                if (cooldown < 0) {
+                    logger.warning("Invalid cooldown for rarity '" + key + "': " + cooldown + ", using 0");
+                    cooldown = 0;
+                }
+
+                add(key,
+                        tier.getString("display-name", null),
+                        tier.getString("color", "&7"),
+                        (short) tier.getInt("glass-color", 7),
+                        icon,
+                        (short) tier.getInt("icon-data", 0),
+                        cooldown);
+            }
+            return this;
+        }
+
+        /**
+         * Get a tier by name, registering it as the new rarest tier if unknown.
+         * Keeps rewards with a rarity missing from the config loadable.
+         *
+         * @param name The tier name
+         * @param logger Logger used to report the unknown tier
+         * @return The existing or newly added tier
+         */
+        public Rarity getOrCreate(String name, Logger logger) {
+            String key = name.toUpperCase(Locale.ROOT);
+            Rarity rarity = tiers.get(key);
+            if (rarity == null) {
+                logger.warning("Rarity '" + key + "' is not defined under 'rarities', adding it as the rarest tier.");
+                rarity = add(key, null, "&7", (short) 7, Material.PAPER, (short) 0, 0);
+            }
+            return rarity;
+        }
+
+        public RarityRegistry build() {
+            return new RarityRegistry(tiers.values().toArray(new Rarity[0]));
+        }
+
+        private Rarity add(String name, String displayName, String colorCode,
+                           short glassColor, Material icon, short iconData, int cooldownSeconds) {
+            String key = name.toUpperCase(Locale.ROOT);
+            if (tiers.containsKey(key)) {
+                return tiers.get(key);
+            }
+            Rarity rarity = new Rarity(tiers.size(), key,
+                    displayName != null ? displayName : capitalize(key),
+                    colorCode, glassColor, icon, iconData, cooldownSeconds);
+            tiers.put(key, rarity);
+            return rarity;
+        }
+
+        /**
+         * Convert TIER_NAME to Tier Name
+         */
+        private static String capitalize(String name) {
+            StringBuilder result = new StringBuilder();
+            boolean capitalizeNext = true;
+            for (char c : name.replace('_', ' ').toLowerCase(Locale.ROOT).toCharArray()) {
+                if (c == ' ') {
+                    result.append(c);
+                    capitalizeNext = true;
+                } else if (capitalizeNext) {
+                    result.append(Character.toUpperCase(c));
+                    capitalizeNext = false;
+                } else {
+                    result.append(c);
+                }
+            }
+            return result.toString();
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.warzonefishing.managers;
 
 import com.warzonefishing.WarzoneFishing;
+import com.warzonefishing.actions.RewardAction;
 import com.warzonefishing.hooks.HeadHuntingHook;
 import com.warzonefishing.models.FishingReward;
 import com.warzonefishing.models.FishingReward.RewardType;
+import com.warzonefishing.models.Rarity;
 import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.configuration.ConfigurationSection;
@@ -11,38 +13,44 @@ import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
 
 import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * Manages loading and selecting fishing rewards from configuration
  * Supports weighted random selection and various reward types
+ * 
+ * The loaded catalog is an immutable {@link RewardTable} published through a
+ * single volatile reference, so readers on any thread never see a half-loaded catalog.
  */
 public class RewardManager {
     
     private final WarzoneFishing plugin;
-    private final List<FishingReward> rewards;
     private final Random random;
-    private double totalWeight;
+    private volatile RewardTable table;
     
     public RewardManager(WarzoneFishing plugin) {
         this.plugin = plugin;
-        this.rewards = new ArrayList<>();
         this.random = new Random();
-        this.totalWeight = 0.0;
+        this.table = RewardTable.empty();
     }
     
     /**
-     * Load all rewards from the configuration
+     * Load all rewards from the configuration.
+     * The new table is built off to the side and swapped in atomically.
      */
     public void loadRewards() {
-        rewards.clear();
-        totalWeight = 0.0;
-        
         ConfigurationSection rewardsSection = plugin.getConfig().getConfigurationSection("rewards");
         if (rewardsSection == null) {
             plugin.getLogger().warning("No 'rewards' section found in config.yml!");
+            table = RewardTable.empty();
             return;
         }
         
+        // Rarity tiers come first so rewards can resolve them while loading
+        RarityRegistry.Builder rarities = RarityRegistry.builder()
+                .load(plugin.getConfig().getConfigurationSection("rarities"), plugin.getLogger());
+        
+        List<FishingReward> rewards = new ArrayList<>();
         int loaded = 0;
         int failed = 0;
         
@@ -51,10 +59,9 @@ public class RewardManager {
             if (section == null) continue;
             
             try {
-                FishingReward reward = loadReward(key, section);
+                FishingReward reward = loadReward(key, section, rarities);
                 if (reward != null) {
                     rewards.add(reward);
-                    totalWeight += reward.getChance();
                     loaded++;
                 } else {
                     failed++;
@@ -65,20 +72,32 @@ public class RewardManager {
             }
         }
         
-        // Sort by chance (ascending) for weighted selection optimization
-        rewards.sort(Comparator.comparingDouble(FishingReward::getChance));
+        // Build the complete table before publishing it in one write
+        RewardTable loadedTable = RewardTable.build(rewards, rarities.build());
+        table = loadedTable;
+        
+        // Look up skull-owner skins in the background
+        if (plugin.getSkinCache() != null) {
+            Set<String> owners = new HashSet<>();
+            for (FishingReward reward : rewards) {
+                if (reward.usesOwnerSkull()) {
+                    owners.add(reward.getSkullOwner());
+                }
+            }
+            plugin.getSkinCache().resolve(owners);
+        }
         
         if (failed > 0) {
             plugin.getLogger().warning("Failed to load " + failed + " reward(s). Check your config!");
         }
         
-        plugin.getLogger().info("Loaded " + loaded + " rewards with total weight " + String.format("%.2f", totalWeight));
+        plugin.getLogger().info("Loaded " + loaded + " rewards with total weight " + String.format("%.2f", loadedTable.getTotalWeight()));
     }
     
     /**
      * Load a single reward from a configuration section
      */
-    private FishingReward loadReward(String id, ConfigurationSection section) {
+    private FishingReward loadReward(String id, ConfigurationSection section, RarityRegistry.Builder rarities) {
         // Get reward type
         String typeStr = section.getString("type", "ITEM").toUpperCase();
         RewardType type;
@@ -114,7 +133,7 @@ public class RewardManager {
         short data = (short) section.getInt("data", 0);
         List<String> lore = section.getStringList("lore");
         double chance = section.getDouble("chance", 1.0);
-        String rarity = section.getString("rarity", "COMMON");
+        Rarity rarity = rarities.getOrCreate(section.getString("rarity", "COMMON"), plugin.getLogger());
         
         // Enchantments
         Map<Enchantment, Integer> enchantments = loadEnchantments(section);
@@ -135,6 +154,7 @@ public class RewardManager {
         
         // Actions
         List<String> commands = section.getStringList("commands");
+        List<RewardAction> actions = plugin.getActionRegistry().compile(section.getMapList("actions"), id);
         boolean broadcast = section.getBoolean("broadcast", false);
         String broadcastMessage = section.getString("broadcast-message", 
                 "&3&l[FISHING] &b{player} &fcaught a " + displayName + "&f!");
@@ -148,6 +168,13 @@ public class RewardManager {
         int requiredLevel = section.getInt("required-level", 0);
         boolean requiresGuardianMask = section.getBoolean("requires-guardian-mask", false);
         
+        // Per-player cooldown before this reward can be rolled again
+        int cooldown = section.getInt("cooldown", 0);
+        if (cooldown < 0) {
+            plugin.getLogger().warning("Reward '" + id + "' has invalid cooldown " + cooldown + ", using 0.");
+            cooldown = 0;
+        }
+        
         // Validate chance
         if (chance <= 0) {
             plugin.getLogger().warning("Reward '" + id + "' has invalid chance " + chance + ", skipping.");
@@ -158,9 +185,9 @@ public class RewardManager {
                 id, type, displayName, material, amount, data, lore, enchantments,
                 chance, rarity, nbtData, skullTexture, skullOwner,
                 titleMessage, subtitleMessage, sound, soundPitch, soundVolume,
-                commands, broadcast, broadcastMessage,
+                commands, actions, broadcast, broadcastMessage,
                 hideFlags, unbreakable, glow,
-                requiredLevel, requiresGuardianMask
+                requiredLevel, requiresGuardianMask, cooldown
         );
     }
     
@@ -235,27 +262,13 @@ public class RewardManager {
      * @return A randomly selected reward, or null if no rewards
      */
     public FishingReward getRandomReward() {
-        if (rewards.isEmpty() || totalWeight <= 0) {
-            return null;
-        }
-        
-        double roll = random.nextDouble() * totalWeight;
-        double cumulative = 0.0;
-        
-        for (FishingReward reward : rewards) {
-            cumulative += reward.getChance();
-            if (roll < cumulative) {
-                return reward;
-            }
-        }
-        
-        // Fallback to last reward (shouldn't happen)
-        return rewards.get(rewards.size() - 1);
+        return table.roll(random);
     }
     
     /**
      * Get a random reward filtered by player level and mask requirements.
-     * Uses HeadHuntingHook to filter out rewards the player doesn't qualify for.
+     * Uses the precompiled eligibility brackets, so a roll is a binary search on
+     * the player's level plus an O(1) draw with no per-catch allocation.
      * Drop weights are NOT modified by any boosts — all boosts affect catch rate only.
      * Falls back to unfiltered selection if HeadHunting isn't installed.
      * 
@@ -263,10 +276,6 @@ public class RewardManager {
      * @return A randomly selected reward the player qualifies for, or null if none
      */
     public FishingReward getRandomReward(Player player) {
-        if (rewards.isEmpty() || totalWeight <= 0) {
-            return null;
-        }
-        
         HeadHuntingHook hook = WarzoneFishing.getInstance().getHeadHuntingHook();
         
         // Fall back to old behavior if HeadHunting isn't installed
@@ -274,93 +283,114 @@ public class RewardManager {
             return getRandomReward();
         }
         
-        // Build list of eligible rewards with effective weights
-        List<FishingReward> eligible = new ArrayList<>();
-        List<Double> effectiveWeights = new ArrayList<>();
-        double totalEffective = 0.0;
+        RewardTable current = table;
+        int level = hook.getPlayerLevel(player);
+        boolean hasMask = current.getBrackets().hasMaskRewards() && hook.hasGuardianMask(player);
+        return current.roll(random, level, hasMask);
+    }
+    
+    /**
+     * Get a random reward the player qualifies for, drawn only from the rewards
+     * accepted by a filter. Walks the whole table instead of using the precompiled
+     * brackets, so it is meant as the fallback when a normal roll was rejected.
+     * 
+     * @param player The player to select a reward for
+     * @param allowed Filter for rewards that may be drawn
+     * @return A randomly selected reward, or null if none qualifies
+     */
+    public FishingReward getRandomReward(Player player, Predicate<FishingReward> allowed) {
+        HeadHuntingHook hook = WarzoneFishing.getInstance().getHeadHuntingHook();
+        boolean filterLevel = hook != null && hook.isEnabled();
+        int level = filterLevel ? hook.getPlayerLevel(player) : 0;
+        boolean hasMask = filterLevel && hook.hasGuardianMask(player);
         
+        RewardTable current = table;
+        List<FishingReward> rewards = current.getRewards();
+        double totalWeight = 0;
         for (FishingReward reward : rewards) {
-            // Check guardian mask requirement separately
-            if (reward.requiresGuardianMask() && !hook.hasGuardianMask(player)) {
-                continue;
-            }
-            
-            double weight = hook.calculateEffectiveWeight(
-                    reward.getChance(),
-                    reward.getRarity(),
-                    reward.getRequiredLevel(),
-                    player
-            );
-            
-            if (weight > 0) {
-                eligible.add(reward);
-                effectiveWeights.add(weight);
-                totalEffective += weight;
+            if (isDrawable(reward, filterLevel, level, hasMask, allowed)) {
+                totalWeight += reward.getChance();
             }
         }
+        if (totalWeight <= 0) return null;
         
-        if (eligible.isEmpty() || totalEffective <= 0) {
-            return null;
-        }
-        
-        // Weighted random selection on effective weights
-        double roll = random.nextDouble() * totalEffective;
-        double cumulative = 0.0;
-        
-        for (int i = 0; i < eligible.size(); i++) {
-            cumulative += effectiveWeights.get(i);
-            if (roll < cumulative) {
-                return eligible.get(i);
-            }
+        double target = random.nextDouble() * totalWeight;
+        FishingReward last = null;
+        for (FishingReward reward : rewards) {
+            if (!isDrawable(reward, filterLevel, level, hasMask, allowed)) continue;
+            last = reward;
+            target -= reward.getChance();
+            if (target < 0) return reward;
         }
-        
-        // Fallback to last eligible reward
-        return eligible.get(eligible.size() - 1);
+        // Rounding can leave a sliver of weight past the last reward
+        return last;
+    }
+    
+    private static boolean isDrawable(FishingReward reward, boolean filterLevel, int level, boolean hasMask,
+                                      Predicate<FishingReward> allowed) {
+        if (filterLevel && !EligibilityBrackets.isEligible(reward, level, hasMask)) return false;
+        return allowed.test(reward);
+    }
+    
+    /**
+     * Get the total weight of the rewards a player qualifies for.
+     * Backed by the same brackets as {@link #getRandomReward(Player)}.
+     * 
+     * @param level The player's HeadHunting level
+     * @param hasGuardianMask Whether the player has a guardian mask equipped
+     * @return The eligible weight
+     */
+    public double getEligibleWeight(int level, boolean hasGuardianMask) {
+        return table.getBrackets().getTotalWeight(level, hasGuardianMask);
+    }
+    
+    /**
+     * Get the current reward table snapshot.
+     * Callers that need several values from the same catalog should read it once.
+     */
+    public RewardTable getTable() {
+        return table;
+    }
+    
+    /**
+     * Get the rarity tiers of the current table
+     */
+    public RarityRegistry getRarities() {
+        return table.getRarities();
     }
     
     /**
      * Get the total number of loaded rewards
      */
     public int getRewardCount() {
-        return rewards.size();
+        return table.size();
     }
     
     /**
-     * Get all loaded rewards
+     * Get all loaded rewards (read-only view of the current table)
      */
     public List<FishingReward> getAllRewards() {
-        return new ArrayList<>(rewards);
+        return table.getRewards();
     }
     
     /**
-     * Get rewards filtered by rarity
+     * Get rewards filtered by rarity (read-only, shared between callers)
      */
-    public List<FishingReward> getRewardsByRarity(String rarity) {
-        List<FishingReward> filtered = new ArrayList<>();
-        for (FishingReward reward : rewards) {
-            if (reward.getRarity().equalsIgnoreCase(rarity)) {
-                filtered.add(reward);
-            }
-        }
-        return filtered;
+    public List<FishingReward> getRewardsByRarity(Rarity rarity) {
+        return table.getRewardsByRarity(rarity);
     }
     
     /**
      * Get a reward by its ID
      */
     public FishingReward getRewardById(String id) {
-        for (FishingReward reward : rewards) {
-            if (reward.getId().equalsIgnoreCase(id)) {
-                return reward;
-            }
-        }
-        return null;
+        return table.getRewardById(id);
     }
     
     /**
      * Get the total weight of all rewards
      */
     public double getTotalWeight() {
-        return totalWeight;
+        return table.getTotalWeight();
     }
 }
@@ -0,0 +1,190 @@
+package com.warzonefishing.managers;
+
+import com.warzonefishing.models.FishingReward;
+import com.warzonefishing.models.Rarity;
+import com.warzonefishing.utils.AliasTable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Immutable snapshot of the loaded reward catalog.
+ * Everything derived from the catalog (rarity tiers, id and rarity indexes, samplers,
+ * brackets, total weight) is built off to the side and published as a whole, so readers
+ * on any thread always see a consistent catalog without locking, even while a reload
+ * is in progress.
+ */
+public final class RewardTable {
+
+    private static final RewardTable EMPTY = build(new ArrayList<FishingReward>(), RarityRegistry.defaults());
+
+    private final RarityRegistry rarities;
+    private final List<FishingReward> rewards;
+    private final List<FishingReward> displayOrder;
+    private final Map<String, FishingReward> byId;
+    private final List<FishingReward>[] byRarity;
+    private final double[] rarityWeights;
+    private final double totalWeight;
+    private final AliasTable<FishingReward> sampler;
+    private final EligibilityBrackets brackets;
+
+    private RewardTable(RarityRegistry rarities, List<FishingReward> rewards, List<FishingReward> displayOrder,
+                        Map<String, FishingReward> byId, List<FishingReward>[] byRarity, double[] rarityWeights,
+                        AliasTable<FishingReward> sampler, EligibilityBrackets brackets) {
+        this.rarities = rarities;
+        this.rewards = rewards;
+        this.displayOrder = displayOrder;
+        this.byId = byId;
+        this.byRarity = byRarity;
+        this.rarityWeights = rarityWeights;
+        this.totalWeight = sampler.getTotalWeight();
+        this.sampler = sampler;
+        this.brackets = brackets;
+    }
+
+    /**
+     * Get a table with no rewards
+     */
+    public static RewardTable empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Build a table from freshly loaded rewards
+     * @param loaded The rewards (the list is copied, not retained)
+     * @param rarities The rarity tiers the rewards were loaded against
+     * @return The compiled table
+     */
+    @SuppressWarnings("unchecked")
+    public static RewardTable build(List<FishingReward> loaded, RarityRegistry rarities) {
+        List<FishingReward> sorted = new ArrayList<>(loaded);
+
+        // Sort by chance (ascending) for listing
+        sorted.sort(Comparator.comparingDouble(FishingReward::getChance));
+
+        // Compile the alias table so each roll is O(1) regardless of catalog size
+        AliasTable<FishingReward> sampler = AliasTable.build(sorted, FishingReward::getChance);
+
+        // Precompute one sampler per (level threshold, guardian mask) bracket
+        EligibilityBrackets brackets = EligibilityBrackets.build(sorted);
+
+        // Case-insensitive id index (first reward wins, like the old linear scan)
+        Map<String, FishingReward> byId = new HashMap<>();
+        for (FishingReward reward : sorted) {
+            byId.putIfAbsent(normalize(reward.getId()), reward);
+        }
+
+        // Per-rarity lists indexed by ordinal, kept in the same order as the full list
+        List<FishingReward>[] byRarity = new List[rarities.size()];
+        double[] rarityWeights = new double[rarities.size()];
+        for (int i = 0; i < byRarity.length; i++) {
+            byRarity[i] = new ArrayList<>();
+        }
+        for (FishingReward reward : sorted) {
+            int ordinal = reward.getRarity().getOrdinal();
+            byRarity[ordinal].add(reward);
+            rarityWeights[ordinal] += reward.getChance();
+        }
+        for (int i = 0; i < byRarity.length; i++) {
+            byRarity[i] = Collections.unmodifiableList(byRarity[i]);
+        }
+
+        // Encyclopedia order: rarity rank first, then most likely first
+        List<FishingReward> displayOrder = new ArrayList<>(sorted);
+        displayOrder.sort((a, b) -> {
+            int rarityCompare = a.getRarity().getOrdinal() - b.getRarity().getOrdinal();
+            if (rarityCompare != 0) return rarityCompare;
+            return Double.compare(b.getChance(), a.getChance());
+        });
+
+        return new RewardTable(rarities, Collections.unmodifiableList(sorted),
+                Collections.unmodifiableList(displayOrder), byId, byRarity, rarityWeights, sampler, brackets);
+    }
+
+    /**
+     * Get a random reward based on weights (no level filtering)
+     * @param random The random source to draw from
+     * @return A randomly selected reward, or null if the table is empty
+     */
+    public FishingReward roll(Random random) {
+        return sampler.sample(random);
+    }
+
+    /**
+     * Get a random reward from a player's eligibility bracket
+     * @param random The random source to draw from
+     * @param level The player's HeadHunting level
+     * @param hasGuardianMask Whether the player has a guardian mask equipped
+     * @return A randomly selected reward, or null if none are eligible
+     */
+    public FishingReward roll(Random random, int level, boolean hasGuardianMask) {
+        return brackets.getSampler(level, hasGuardianMask).sample(random);
+    }
+
+    public EligibilityBrackets getBrackets() {
+        return brackets;
+    }
+
+    /**
+     * Get the rarity tiers this table was loaded against
+     */
+    public RarityRegistry getRarities() {
+        return rarities;
+    }
+
+    /**
+     * Get all rewards (read-only, sorted by chance ascending)
+     */
+    public List<FishingReward> getRewards() {
+        return rewards;
+    }
+
+    /**
+     * Get all rewards sorted by rarity rank, then by chance descending
+     */
+    public List<FishingReward> getRewardsInDisplayOrder() {
+        return displayOrder;
+    }
+
+    public int size() {
+        return rewards.size();
+    }
+
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * Get rewards filtered by rarity (read-only, shared between callers)
+     */
+    public List<FishingReward> getRewardsByRarity(Rarity rarity) {
+        int ordinal = rarities.indexOf(rarity);
+        return ordinal >= 0 ? byRarity[ordinal] : Collections.<FishingReward>emptyList();
+    }
+
+    /**
+     * Get the summed chance of all rewards of a rarity
+     */
+    public double getRarityWeight(Rarity rarity) {
+        int ordinal = rarities.indexOf(rarity);
+        return ordinal >= 0 ? rarityWeights[ordinal] : 0.0;
+    }
+
+    /**
+     * Get a reward by its ID (case-insensitive)
+     */
+    public FishingReward getRewardById(String id) {
+        if (id == null) return null;
+        return byId.get(normalize(id));
+    }
+
+    private static String normalize(String key) {
+        return key.toLowerCase(Locale.ROOT);
+    }
+}
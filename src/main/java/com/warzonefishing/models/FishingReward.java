@@ -1,8 +1,12 @@
 package com.warzonefishing.models;
 
-import com.warzonefishing.nbt.NBTHelper;
+import com.warzonefishing.actions.CommandAction;
+import com.warzonefishing.actions.RewardAction;
+import com.warzonefishing.nbt.NBTTemplate;
+import com.warzonefishing.utils.MessageTemplate;
 import com.warzonefishing.utils.MessageUtils;
 import com.warzonefishing.utils.SkullUtils;
+import com.warzonefishing.utils.TitleAPI;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.Sound;
@@ -12,8 +16,10 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a fishing reward with all its properties
@@ -38,10 +44,11 @@ public class FishingReward {
     private final List<String> lore;
     private final Map<Enchantment, Integer> enchantments;
     private final double chance;
-    private final String rarity;
+    private final Rarity rarity;
     
     // NBT properties
     private final Map<String, Object> nbtData;
+    private final NBTTemplate nbtTemplate;
     
     // Skull properties
     private final String skullTexture;
@@ -67,6 +74,24 @@ public class FishingReward {
     // Level requirements (for HeadHunting integration)
     private final int requiredLevel;
     private final boolean requiresGuardianMask;
+    private final int cooldownSeconds;
+    
+    // Messages compiled once at load
+    private final String itemDisplayName;
+    private final MessageTemplate titleTemplate;
+    private final MessageTemplate subtitleTemplate;
+    private final MessageTemplate broadcastTemplate;
+    private final List<MessageTemplate> commandTemplates;
+    private final List<RewardAction> actions;
+    
+    // Prepared title/action bar text for templates without {player}, keyed by template
+    private final Map<MessageTemplate, TitleAPI.PreparedText> preparedText = new ConcurrentHashMap<>();
+    
+    // Fully built item, created on first use and cloned for every caller.
+    // Rewards are rebuilt on reload, so a stale prototype is dropped with its reward.
+    private volatile ItemStack prototype;
+    // Skin generation an owner skull prototype was built without a skin at, or -1 if it needs no rebuild
+    private volatile long prototypeSkinGeneration = -1;
     
     /**
      * Constructor with all properties
@@ -81,7 +106,7 @@ public class FishingReward {
             List<String> lore,
             Map<Enchantment, Integer> enchantments,
             double chance,
-            String rarity,
+            Rarity rarity,
             Map<String, Object> nbtData,
             String skullTexture,
             String skullOwner,
@@ -91,13 +116,15 @@ public class FishingReward {
             float soundPitch,
             float soundVolume,
             List<String> commands,
+            List<RewardAction> actions,
             boolean broadcast,
             String broadcastMessage,
             boolean hideFlags,
             boolean unbreakable,
             boolean glow,
             int requiredLevel,
-            boolean requiresGuardianMask
+            boolean requiresGuardianMask,
+            int cooldownSeconds
     ) {
         this.id = id;
         this.type = type;
@@ -108,8 +135,9 @@ public class FishingReward {
         this.lore = lore != null ? lore : new ArrayList<>();
         this.enchantments = enchantments;
         this.chance = chance;
-        this.rarity = rarity != null ? rarity.toUpperCase() : "COMMON";
+        this.rarity = rarity;
         this.nbtData = nbtData;
+        this.nbtTemplate = NBTTemplate.of(nbtData);
         this.skullTexture = skullTexture;
         this.skullOwner = skullOwner;
         this.titleMessage = titleMessage;
@@ -125,6 +153,27 @@ public class FishingReward {
         this.glow = glow;
         this.requiredLevel = requiredLevel;
         this.requiresGuardianMask = requiresGuardianMask;
+        this.cooldownSeconds = cooldownSeconds;
+        
+        this.itemDisplayName = buildItemDisplayName();
+        this.titleTemplate = MessageTemplate.compile(titleMessage, true);
+        this.subtitleTemplate = MessageTemplate.compile(subtitleMessage, true);
+        this.broadcastTemplate = MessageTemplate.compile(broadcastMessage, true);
+        List<MessageTemplate> compiledCommands = new ArrayList<>(this.commands.size());
+        for (String command : this.commands) {
+            compiledCommands.add(MessageTemplate.compile(command, false));
+        }
+        this.commandTemplates = Collections.unmodifiableList(compiledCommands);
+        
+        // Plain commands run first, then the typed actions
+        List<RewardAction> allActions = new ArrayList<>();
+        for (MessageTemplate command : compiledCommands) {
+            allActions.add(new CommandAction(command));
+        }
+        if (actions != null) {
+            allActions.addAll(actions);
+        }
+        this.actions = Collections.unmodifiableList(allActions);
     }
     
     // ============ Getters ============
@@ -141,20 +190,57 @@ public class FishingReward {
         return chance;
     }
     
-    public String getRarity() {
+    public Rarity getRarity() {
         return rarity;
     }
     
     public String getRarityColor() {
-        return MessageUtils.getRarityColor(rarity);
+        return rarity.getColorCode();
     }
     
     public String getTitleMessage() {
-        return MessageUtils.color(titleMessage);
+        return titleTemplate.getText();
     }
     
     public String getSubtitleMessage() {
-        return MessageUtils.color(subtitleMessage);
+        return subtitleTemplate.getText();
+    }
+    
+    public MessageTemplate getTitleTemplate() {
+        return titleTemplate;
+    }
+    
+    public MessageTemplate getSubtitleTemplate() {
+        return subtitleTemplate;
+    }
+    
+    public MessageTemplate getBroadcastTemplate() {
+        return broadcastTemplate;
+    }
+    
+    /**
+     * Get the compiled reward commands (colors left untranslated)
+     */
+    public List<MessageTemplate> getCommandTemplates() {
+        return commandTemplates;
+    }
+    
+    /**
+     * Get every action of this reward in run order ('commands' first, then 'actions')
+     */
+    public List<RewardAction> getActions() {
+        return actions;
+    }
+    
+    /**
+     * Render one of this reward's templates (or any other template) for a player
+     * @param template The compiled template
+     * @param playerName The value for {player}
+     * @return The rendered message
+     */
+    public String format(MessageTemplate template, String playerName) {
+        String rarityColor = template.isColored() ? rarity.getColor() : rarity.getColorCode();
+        return template.render(playerName, itemDisplayName, rarity.getName(), rarityColor, id);
     }
     
     public Sound getSound() {
@@ -181,6 +267,22 @@ public class FishingReward {
         return broadcast;
     }
     
+    /**
+     * Render a template for sending as a title, subtitle or action bar.
+     * Everything but {player} is fixed per reward, so text without {player} is rendered
+     * and prepared once, and its packets are reused for every catch.
+     * 
+     * @param template The compiled template
+     * @param playerName The value for {player}
+     * @return The prepared text
+     */
+    public TitleAPI.PreparedText prepare(MessageTemplate template, String playerName) {
+        if (template.contains(MessageTemplate.Placeholder.PLAYER)) {
+            return TitleAPI.prepare(format(template, playerName));
+        }
+        return preparedText.computeIfAbsent(template, t -> TitleAPI.prepare(format(t, null)));
+    }
+    
     /**
      * Get the sell value from NBT data
      * @return Sell value or 0 if not set
@@ -196,7 +298,7 @@ public class FishingReward {
     }
     
     public String getBroadcastMessage() {
-        return MessageUtils.color(broadcastMessage);
+        return broadcastTemplate.getText();
     }
     
     public boolean hasItem() {
@@ -215,9 +317,29 @@ public class FishingReward {
         return requiresGuardianMask;
     }
     
+    /**
+     * Get how long a player must wait before rolling this reward again (0 = no limit)
+     */
+    public int getCooldownSeconds() {
+        return cooldownSeconds;
+    }
+    
+    public String getSkullOwner() {
+        return skullOwner;
+    }
+    
+    /**
+     * Check if the item is a player head showing the skull owner's skin
+     */
+    public boolean usesOwnerSkull() {
+        return (skullTexture == null || skullTexture.isEmpty())
+                && skullOwner != null && !skullOwner.isEmpty()
+                && material == Material.SKULL_ITEM && data == 3;
+    }
+    
     /**
      * Create the item stack for this reward
-     * Handles normal items, skulls with textures, and NBT tags
+     * Returns a copy of a cached prototype, so each caller may modify its item freely
      * 
      * @return The created ItemStack or null if COMMAND type
      */
@@ -227,6 +349,32 @@ public class FishingReward {
             return null;
         }
         
+        ItemStack item = prototype;
+        if (item == null || isMissingResolvedSkin()) {
+            // A race here only builds the same item twice, both results are equivalent
+            // A plain owner head is rebuilt once new skins were resolved, so it picks its skin up
+            long skinGeneration = usesOwnerSkull() && !SkullUtils.isOwnerResolved(skullOwner)
+                    ? SkullUtils.getSkinGeneration() : -1;
+            item = buildItemStack();
+            prototypeSkinGeneration = skinGeneration;
+            prototype = item;
+        }
+        return item.clone();
+    }
+    
+    /**
+     * Check if the prototype is a plain owner head and skins were resolved since it was built
+     */
+    private boolean isMissingResolvedSkin() {
+        long built = prototypeSkinGeneration;
+        return built >= 0 && built != SkullUtils.getSkinGeneration();
+    }
+    
+    /**
+     * Build the item stack from scratch
+     * Handles normal items, skulls with textures, and NBT tags
+     */
+    private ItemStack buildItemStack() {
         ItemStack item;
         
         // Handle skull with custom texture
@@ -234,7 +382,7 @@ public class FishingReward {
             item = SkullUtils.createSkull(skullTexture, amount);
         }
         // Handle skull with owner name
-        else if (skullOwner != null && !skullOwner.isEmpty() && material == Material.SKULL_ITEM && data == 3) {
+        else if (usesOwnerSkull()) {
             item = SkullUtils.createPlayerSkull(skullOwner, amount);
         }
         // Normal item
@@ -292,8 +440,8 @@ public class FishingReward {
         }
         
         // Apply custom NBT tags
-        if (nbtData != null && !nbtData.isEmpty()) {
-            item = NBTHelper.applyNBT(item, nbtData);
+        if (!nbtTemplate.isEmpty()) {
+            item = nbtTemplate.apply(item);
         }
         
         return item;
@@ -304,6 +452,10 @@ public class FishingReward {
      * @return The colored display name or material name
      */
     public String getItemDisplayName() {
+        return itemDisplayName;
+    }
+    
+    private String buildItemDisplayName() {
         if (displayName != null && !displayName.isEmpty()) {
             return MessageUtils.color(displayName);
         }
@@ -335,7 +487,7 @@ public class FishingReward {
      * @return Formatted reward info
      */
     public String getListEntry() {
-        String rarityColored = MessageUtils.color(getRarityColor() + rarity);
+        String rarityColored = rarity.getColor() + rarity.getName();
         String chanceStr = String.format("%.2f", chance);
         return MessageUtils.color(
                 getRarityColor() + "• &f" + id + 
@@ -350,7 +502,7 @@ public class FishingReward {
                 "id='" + id + '\'' +
                 ", type=" + type +
                 ", material=" + material +
-                ", rarity='" + rarity + '\'' +
+                ", rarity='" + rarity.getName() + '\'' +
                 ", chance=" + chance +
                 '}';
     }
@@ -0,0 +1,107 @@
+package com.warzonefishing.models;
+
+import com.warzonefishing.utils.MessageUtils;
+import org.bukkit.Material;
+
+/**
+ * A rarity tier loaded from the 'rarities' config section.
+ * Colors, glass pane data and GUI icon are resolved once when the tier is created,
+ * and the ordinal doubles as the sort rank (0 = most common) so lookups can use arrays.
+ */
+public final class Rarity {
+
+    private final int ordinal;
+    private final String name;
+    private final String displayName;
+    private final String colorCode;
+    private final String color;
+    private final short glassColor;
+    private final Material icon;
+    private final short iconData;
+    private final int cooldownSeconds;
+
+    public Rarity(int ordinal, String name, String displayName, String colorCode,
+                  short glassColor, Material icon, short iconData, int cooldownSeconds) {
+        this.ordinal = ordinal;
+        this.name = name.toUpperCase();
+        this.displayName = displayName;
+        this.colorCode = colorCode;
+        this.color = MessageUtils.color(colorCode);
+        this.glassColor = glassColor;
+        this.icon = icon;
+        this.iconData = iconData;
+        this.cooldownSeconds = cooldownSeconds;
+    }
+
+    /**
+     * Get the position of this tier, 0 being the most common
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    /**
+     * Get the upper-case tier name (as stored in configs and statistics)
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Get the capitalized name for display (e.g. "Legendary")
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Get the untranslated color code (e.g. "&6")
+     */
+    public String getColorCode() {
+        return colorCode;
+    }
+
+    /**
+     * Get the translated color code, ready to prepend to text
+     */
+    public String getColor() {
+        return color;
+    }
+
+    /**
+     * Get the stained glass pane data value used in GUIs
+     */
+    public short getGlassColor() {
+        return glassColor;
+    }
+
+    /**
+     * Get the icon material shown in the encyclopedia main menu
+     */
+    public Material getIcon() {
+        return icon;
+    }
+
+    public short getIconData() {
+        return iconData;
+    }
+
+    /**
+     * Get how long a player must wait before rolling this tier again (0 = no limit)
+     */
+    public int getCooldownSeconds() {
+        return cooldownSeconds;
+    }
+
+    /**
+     * Check if this tier ranks above another
+     */
+    public boolean isRarerThan(Rarity other) {
+        return other == null || ordinal > other.ordinal;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -1,15 +1,23 @@
 package com.warzonefishing.nbt;
 
 import org.bukkit.Bukkit;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
 import java.util.Map;
 
 /**
  * NBT Helper for 1.8.8 using NMS reflection
  * Allows adding custom NBT tags to items for ShopGUIPlus integration
  * 
+ * All NMS methods are resolved once when the class loads and kept as MethodHandles,
+ * so reading or writing a tag costs no reflective lookups. If anything fails to
+ * resolve, every method becomes a no-op returning its default value.
+ * 
  * Example usage:
  *   ItemStack fish = new ItemStack(Material.RAW_FISH);
  *   fish = NBTHelper.setString(fish, "warzone_rarity", "rare");
@@ -18,18 +26,190 @@ import java.util.Map;
 public class NBTHelper {
     
     private static final String VERSION;
-    private static boolean nmsAvailable = true;
+    private static final boolean nmsAvailable;
+    
+    // CraftItemStack conversions
+    private static final MethodHandle AS_NMS_COPY;      // (ItemStack) Object
+    private static final MethodHandle AS_BUKKIT_COPY;   // (Object) ItemStack
+    
+    // NMS ItemStack tag access
+    private static final MethodHandle GET_TAG;          // (Object) Object
+    private static final MethodHandle SET_TAG;          // (Object, Object) void
+    
+    // NBTTagCompound
+    private static final MethodHandle NEW_COMPOUND;     // () Object
+    private static final MethodHandle SET_STRING;       // (Object, String, String) void
+    private static final MethodHandle SET_INT;          // (Object, String, int) void
+    private static final MethodHandle SET_DOUBLE;       // (Object, String, double) void
+    private static final MethodHandle SET_BOOLEAN;      // (Object, String, boolean) void
+    private static final MethodHandle HAS_KEY;          // (Object, String) boolean
+    private static final MethodHandle GET_STRING;       // (Object, String) String
+    private static final MethodHandle GET_INT;          // (Object, String) int
+    
+    // Raw tag copy, used to merge prebuilt templates (optional)
+    private static final MethodHandle GET_BASE;         // (Object, String) Object
+    private static final MethodHandle SET_BASE;         // (Object, String, Object) void
+    private static final MethodHandle CLONE_BASE;       // (Object) Object
+    
+    // Direct read of a CraftItemStack's NMS item, skipping asNMSCopy (optional)
+    private static final Class<?> CRAFT_ITEM_STACK;
+    private static final MethodHandle GET_HANDLE;       // (Object) Object
+    
+    // Typed reads by NBT type id, used by scan (optional)
+    private static final MethodHandle GET_TYPE_ID;      // (Object) byte
+    private static final MethodHandle GET_BYTE;         // (Object, String) byte
+    private static final MethodHandle GET_SHORT;        // (Object, String) short
+    private static final MethodHandle GET_LONG;         // (Object, String) long
+    private static final MethodHandle GET_FLOAT;        // (Object, String) float
+    private static final MethodHandle GET_DOUBLE;       // (Object, String) double
+    
+    // NBT type ids
+    private static final byte TAG_BYTE = 1;
+    private static final byte TAG_SHORT = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_LONG = 4;
+    private static final byte TAG_FLOAT = 5;
+    private static final byte TAG_DOUBLE = 6;
+    private static final byte TAG_STRING = 8;
     
     static {
-        VERSION = Bukkit.getServer().getClass().getPackage().getName().split("\\.")[3];
+        String version = null;
+        MethodHandle asNMSCopy = null;
+        MethodHandle asBukkitCopy = null;
+        MethodHandle getTag = null;
+        MethodHandle setTag = null;
+        MethodHandle newCompound = null;
+        MethodHandle setString = null;
+        MethodHandle setInt = null;
+        MethodHandle setDouble = null;
+        MethodHandle setBoolean = null;
+        MethodHandle hasKey = null;
+        MethodHandle getString = null;
+        MethodHandle getInt = null;
+        boolean available = false;
         
-        // Test if NMS is available
         try {
-            Class.forName("net.minecraft.server." + VERSION + ".NBTTagCompound");
-        } catch (ClassNotFoundException e) {
-            nmsAvailable = false;
+            version = Bukkit.getServer().getClass().getPackage().getName().split("\\.")[3];
+            
+            Class<?> craftItemStack = Class.forName("org.bukkit.craftbukkit." + version + ".inventory.CraftItemStack");
+            Class<?> nmsItemStack = Class.forName("net.minecraft.server." + version + ".ItemStack");
+            Class<?> compound = Class.forName("net.minecraft.server." + version + ".NBTTagCompound");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            
+            asNMSCopy = lookup.findStatic(craftItemStack, "asNMSCopy",
+                    MethodType.methodType(nmsItemStack, ItemStack.class))
+                    .asType(MethodType.methodType(Object.class, ItemStack.class));
+            asBukkitCopy = lookup.findStatic(craftItemStack, "asBukkitCopy",
+                    MethodType.methodType(ItemStack.class, nmsItemStack))
+                    .asType(MethodType.methodType(ItemStack.class, Object.class));
+            
+            getTag = lookup.findVirtual(nmsItemStack, "getTag", MethodType.methodType(compound))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            setTag = lookup.findVirtual(nmsItemStack, "setTag", MethodType.methodType(void.class, compound))
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            
+            newCompound = lookup.findConstructor(compound, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+            setString = compoundSetter(lookup, compound, "setString", String.class);
+            setInt = compoundSetter(lookup, compound, "setInt", int.class);
+            setDouble = compoundSetter(lookup, compound, "setDouble", double.class);
+            setBoolean = compoundSetter(lookup, compound, "setBoolean", boolean.class);
+            hasKey = compoundGetter(lookup, compound, "hasKey", boolean.class);
+            getString = compoundGetter(lookup, compound, "getString", String.class);
+            getInt = compoundGetter(lookup, compound, "getInt", int.class);
+            
+            available = true;
+        } catch (Throwable e) {
             Bukkit.getLogger().warning("[WarzoneFishing] NMS not available - NBT features disabled");
         }
+        
+        MethodHandle getBase = null;
+        MethodHandle setBase = null;
+        MethodHandle cloneBase = null;
+        Class<?> craftItemStack = null;
+        MethodHandle getHandle = null;
+        MethodHandle getTypeId = null;
+        MethodHandle getByte = null;
+        MethodHandle getShort = null;
+        MethodHandle getLong = null;
+        MethodHandle getFloat = null;
+        MethodHandle getDouble = null;
+        if (available) {
+            Class<?> compound = null;
+            Class<?> base = null;
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            try {
+                compound = Class.forName("net.minecraft.server." + version + ".NBTTagCompound");
+                base = Class.forName("net.minecraft.server." + version + ".NBTBase");
+                getBase = lookup.findVirtual(compound, "get", MethodType.methodType(base, String.class))
+                        .asType(MethodType.methodType(Object.class, Object.class, String.class));
+            } catch (Throwable e) {
+                getBase = null;
+            }
+            
+            if (getBase != null) {
+                try {
+                    setBase = lookup.findVirtual(compound, "set", MethodType.methodType(void.class, String.class, base))
+                            .asType(MethodType.methodType(void.class, Object.class, String.class, Object.class));
+                    cloneBase = lookup.findVirtual(base, "clone", MethodType.methodType(base))
+                            .asType(MethodType.methodType(Object.class, Object.class));
+                } catch (Throwable e) {
+                    // Templates fall back to writing their values one by one
+                    setBase = null;
+                    cloneBase = null;
+                }
+                
+                try {
+                    getTypeId = lookup.findVirtual(base, "getTypeId", MethodType.methodType(byte.class))
+                            .asType(MethodType.methodType(byte.class, Object.class));
+                    getByte = compoundGetter(lookup, compound, "getByte", byte.class);
+                    getShort = compoundGetter(lookup, compound, "getShort", short.class);
+                    getLong = compoundGetter(lookup, compound, "getLong", long.class);
+                    getFloat = compoundGetter(lookup, compound, "getFloat", float.class);
+                    getDouble = compoundGetter(lookup, compound, "getDouble", double.class);
+                } catch (Throwable e) {
+                    // scan() only reports strings and ints
+                    getTypeId = null;
+                }
+            }
+            
+            try {
+                craftItemStack = Class.forName("org.bukkit.craftbukkit." + version + ".inventory.CraftItemStack");
+                Field handle = craftItemStack.getDeclaredField("handle");
+                handle.setAccessible(true);
+                getHandle = MethodHandles.lookup().unreflectGetter(handle)
+                        .asType(MethodType.methodType(Object.class, Object.class));
+            } catch (Throwable e) {
+                // Reads fall back to asNMSCopy
+                getHandle = null;
+            }
+        }
+        
+        VERSION = version;
+        AS_NMS_COPY = asNMSCopy;
+        AS_BUKKIT_COPY = asBukkitCopy;
+        GET_TAG = getTag;
+        SET_TAG = setTag;
+        NEW_COMPOUND = newCompound;
+        SET_STRING = setString;
+        SET_INT = setInt;
+        SET_DOUBLE = setDouble;
+        SET_BOOLEAN = setBoolean;
+        HAS_KEY = hasKey;
+        GET_STRING = getString;
+        GET_INT = getInt;
+        GET_BASE = getBase;
+        SET_BASE = setBase;
+        CLONE_BASE = cloneBase;
+        CRAFT_ITEM_STACK = craftItemStack;
+        GET_HANDLE = getHandle;
+        GET_TYPE_ID = getTypeId;
+        GET_BYTE = getByte;
+        GET_SHORT = getShort;
+        GET_LONG = getLong;
+        GET_FLOAT = getFloat;
+        GET_DOUBLE = getDouble;
+        nmsAvailable = available;
     }
     
     /**
@@ -40,6 +220,14 @@ public class NBTHelper {
         return nmsAvailable;
     }
     
+    /**
+     * Get the server's NMS package version (e.g. v1_8_R3)
+     * @return The version, or null if it could not be determined
+     */
+    public static String getVersion() {
+        return VERSION;
+    }
+    
     /**
      * Set a string NBT tag on an item
      * @param item The item to modify
@@ -54,12 +242,11 @@ public class NBTHelper {
             Object nmsItem = asNMSCopy(item);
             Object compound = getOrCreateTag(nmsItem);
             
-            compound.getClass().getMethod("setString", String.class, String.class)
-                    .invoke(compound, key, value);
+            SET_STRING.invokeExact(compound, key, value);
             
             setTag(nmsItem, compound);
             return asBukkitCopy(nmsItem);
-        } catch (Exception e) {
+        } catch (Throwable e) {
             Bukkit.getLogger().warning("[WarzoneFishing] Failed to set NBT string: " + e.getMessage());
             return item;
         }
@@ -79,12 +266,11 @@ public class NBTHelper {
             Object nmsItem = asNMSCopy(item);
             Object compound = getOrCreateTag(nmsItem);
             
-            compound.getClass().getMethod("setInt", String.class, int.class)
-                    .invoke(compound, key, value);
+            SET_INT.invokeExact(compound, key, value);
             
             setTag(nmsItem, compound);
             return asBukkitCopy(nmsItem);
-        } catch (Exception e) {
+        } catch (Throwable e) {
             Bukkit.getLogger().warning("[WarzoneFishing] Failed to set NBT int: " + e.getMessage());
             return item;
         }
@@ -104,12 +290,11 @@ public class NBTHelper {
             Object nmsItem = asNMSCopy(item);
             Object compound = getOrCreateTag(nmsItem);
             
-            compound.getClass().getMethod("setDouble", String.class, double.class)
-                    .invoke(compound, key, value);
+            SET_DOUBLE.invokeExact(compound, key, value);
             
             setTag(nmsItem, compound);
             return asBukkitCopy(nmsItem);
-        } catch (Exception e) {
+        } catch (Throwable e) {
             Bukkit.getLogger().warning("[WarzoneFishing] Failed to set NBT double: " + e.getMessage());
             return item;
         }
@@ -129,12 +314,11 @@ public class NBTHelper {
             Object nmsItem = asNMSCopy(item);
             Object compound = getOrCreateTag(nmsItem);
             
-            compound.getClass().getMethod("setBoolean", String.class, boolean.class)
-                    .invoke(compound, key, value);
+            SET_BOOLEAN.invokeExact(compound, key, value);
             
             setTag(nmsItem, compound);
             return asBukkitCopy(nmsItem);
-        } catch (Exception e) {
+        } catch (Throwable e) {
             Bukkit.getLogger().warning("[WarzoneFishing] Failed to set NBT boolean: " + e.getMessage());
             return item;
         }
@@ -142,38 +326,16 @@ public class NBTHelper {
     
     /**
      * Apply multiple NBT tags from a map
+     * 
      * @param item The item to modify
      * @param nbtData Map of key-value pairs
      * @return The modified item
+     * @deprecated Builds a new template on every call; keep an {@link NBTTemplate}
+     *             and call {@link NBTTemplate#apply(ItemStack)} instead
      */
+    @Deprecated
     public static ItemStack applyNBT(ItemStack item, Map<String, Object> nbtData) {
-        if (!nmsAvailable || item == null || nbtData == null || nbtData.isEmpty()) {
-            return item;
-        }
-        
-        ItemStack result = item;
-        for (Map.Entry<String, Object> entry : nbtData.entrySet()) {
-            String key = entry.getKey();
-            Object value = entry.getValue();
-            
-            if (value instanceof String) {
-                result = setString(result, key, (String) value);
-            } else if (value instanceof Integer) {
-                result = setInt(result, key, (Integer) value);
-            } else if (value instanceof Double) {
-                result = setDouble(result, key, (Double) value);
-            } else if (value instanceof Boolean) {
-                result = setBoolean(result, key, (Boolean) value);
-            } else if (value instanceof Number) {
-                // Handle other number types
-                result = setDouble(result, key, ((Number) value).doubleValue());
-            } else {
-                // Convert to string
-                result = setString(result, key, String.valueOf(value));
-            }
-        }
-        
-        return result;
+        return NBTTemplate.of(nbtData).apply(item);
     }
     
     /**
@@ -186,19 +348,14 @@ public class NBTHelper {
         if (!nmsAvailable || item == null) return null;
         
         try {
-            Object nmsItem = asNMSCopy(item);
-            Object compound = getTag(nmsItem);
+            Object compound = readTag(item);
             
             if (compound == null) return null;
             
-            Boolean hasKey = (Boolean) compound.getClass().getMethod("hasKey", String.class)
-                    .invoke(compound, key);
+            if (!(boolean) HAS_KEY.invokeExact(compound, key)) return null;
             
-            if (!hasKey) return null;
-            
-            return (String) compound.getClass().getMethod("getString", String.class)
-                    .invoke(compound, key);
-        } catch (Exception e) {
+            return (String) GET_STRING.invokeExact(compound, key);
+        } catch (Throwable e) {
             return null;
         }
     }
@@ -213,19 +370,14 @@ public class NBTHelper {
         if (!nmsAvailable || item == null) return 0;
         
         try {
-            Object nmsItem = asNMSCopy(item);
-            Object compound = getTag(nmsItem);
+            Object compound = readTag(item);
             
             if (compound == null) return 0;
             
-            Boolean hasKey = (Boolean) compound.getClass().getMethod("hasKey", String.class)
-                    .invoke(compound, key);
-            
-            if (!hasKey) return 0;
+            if (!(boolean) HAS_KEY.invokeExact(compound, key)) return 0;
             
-            return (Integer) compound.getClass().getMethod("getInt", String.class)
-                    .invoke(compound, key);
-        } catch (Exception e) {
+            return (int) GET_INT.invokeExact(compound, key);
+        } catch (Throwable e) {
             return 0;
         }
     }
@@ -240,55 +392,222 @@ public class NBTHelper {
         if (!nmsAvailable || item == null) return false;
         
         try {
-            Object nmsItem = asNMSCopy(item);
-            Object compound = getTag(nmsItem);
+            Object compound = readTag(item);
             
             if (compound == null) return false;
             
-            return (Boolean) compound.getClass().getMethod("hasKey", String.class)
-                    .invoke(compound, key);
-        } catch (Exception e) {
+            return (boolean) HAS_KEY.invokeExact(compound, key);
+        } catch (Throwable e) {
             return false;
         }
     }
     
+    /**
+     * Read several NBT tags from every slot of an inventory in one pass.
+     * Items backed by the server (anything taken from a live inventory) are read
+     * in place without copying them.
+     * 
+     * Example usage:
+     *   NBTScan scan = NBTHelper.scan(player.getInventory(), "warzone_fish", "sell_value");
+     *   for (int slot = 0; slot < scan.size(); slot++) {
+     *       total += scan.getInt(slot, "sell_value") * scan.getAmount(slot);
+     *   }
+     * 
+     * @param inventory The inventory to read
+     * @param keys The NBT keys to look up
+     * @return The values found, by slot and key
+     */
+    public static NBTScan scan(Inventory inventory, String... keys) {
+        ItemStack[] contents = inventory.getContents();
+        Object[][] values = new Object[contents.length][];
+        int[] amounts = new int[contents.length];
+        
+        for (int slot = 0; slot < contents.length; slot++) {
+            ItemStack item = contents[slot];
+            if (item == null) continue;
+            amounts[slot] = item.getAmount();
+            if (!nmsAvailable) continue;
+            
+            try {
+                Object compound = readTag(item);
+                if (compound == null) continue;
+                
+                Object[] row = null;
+                for (int i = 0; i < keys.length; i++) {
+                    Object value = readValue(compound, keys[i]);
+                    if (value == null) continue;
+                    if (row == null) row = new Object[keys.length];
+                    row[i] = value;
+                }
+                values[slot] = row;
+            } catch (Throwable e) {
+                // Leave the slot empty, one unreadable item should not fail the scan
+            }
+        }
+        
+        return new NBTScan(keys, values, amounts);
+    }
+    
+    // ============ Template Support ============
+    
+    /**
+     * Build a standalone compound holding the given values
+     * @return The NMS compound, or null if it could not be built
+     */
+    static Object createCompound(String[] keys, Object[] values) {
+        if (!nmsAvailable) return null;
+        
+        try {
+            Object compound = (Object) NEW_COMPOUND.invokeExact();
+            for (int i = 0; i < keys.length; i++) {
+                write(compound, keys[i], values[i]);
+            }
+            return compound;
+        } catch (Throwable e) {
+            Bukkit.getLogger().warning("[WarzoneFishing] Failed to build NBT template: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Write all template values onto an item in one NMS round trip.
+     * Copies the prebuilt compound's tags when possible, otherwise writes each value.
+     * 
+     * @param item The item to modify
+     * @param template The prebuilt compound (may be null)
+     * @param keys Template keys
+     * @param values Template values, normalized to String, Integer, Double or Boolean
+     * @return The modified item
+     */
+    static ItemStack merge(ItemStack item, Object template, String[] keys, Object[] values) {
+        if (!nmsAvailable || item == null) return item;
+        
+        try {
+            Object nmsItem = asNMSCopy(item);
+            Object compound = getOrCreateTag(nmsItem);
+            
+            if (template != null && CLONE_BASE != null) {
+                for (String key : keys) {
+                    Object tag = (Object) GET_BASE.invokeExact(template, key);
+                    SET_BASE.invokeExact(compound, key, (Object) CLONE_BASE.invokeExact(tag));
+                }
+            } else {
+                for (int i = 0; i < keys.length; i++) {
+                    write(compound, keys[i], values[i]);
+                }
+            }
+            
+            setTag(nmsItem, compound);
+            return asBukkitCopy(nmsItem);
+        } catch (Throwable e) {
+            Bukkit.getLogger().warning("[WarzoneFishing] Failed to apply NBT tags: " + e.getMessage());
+            return item;
+        }
+    }
+    
+    /**
+     * Write one normalized value into a compound
+     */
+    private static void write(Object compound, String key, Object value) throws Throwable {
+        if (value instanceof Integer) {
+            SET_INT.invokeExact(compound, key, (int) (Integer) value);
+        } else if (value instanceof Double) {
+            SET_DOUBLE.invokeExact(compound, key, (double) (Double) value);
+        } else if (value instanceof Boolean) {
+            SET_BOOLEAN.invokeExact(compound, key, (boolean) (Boolean) value);
+        } else {
+            SET_STRING.invokeExact(compound, key, String.valueOf(value));
+        }
+    }
+    
     // ============ Private Helper Methods ============
     
-    private static Object asNMSCopy(ItemStack item) throws Exception {
-        Class<?> craftItemStack = getCraftBukkitClass("inventory.CraftItemStack");
-        Method asNMSCopy = craftItemStack.getMethod("asNMSCopy", ItemStack.class);
-        return asNMSCopy.invoke(null, item);
+    /**
+     * Get an item's tag for reading, without copying the item when it is a CraftItemStack.
+     * The returned compound may be live, so it must not be modified.
+     */
+    private static Object readTag(ItemStack item) throws Throwable {
+        if (GET_HANDLE != null && CRAFT_ITEM_STACK.isInstance(item)) {
+            Object handle = (Object) GET_HANDLE.invokeExact((Object) item);
+            return handle != null ? getTag(handle) : null;
+        }
+        return getTag(asNMSCopy(item));
+    }
+    
+    /**
+     * Read one tag as its Java type (Byte, Short, Integer, Long, Float, Double or String)
+     * @return The value, or null if the key is missing or not a primitive/string tag
+     */
+    private static Object readValue(Object compound, String key) throws Throwable {
+        if (GET_TYPE_ID == null) {
+            // Without type ids only strings and ints can be told apart by trying them
+            if (!(boolean) HAS_KEY.invokeExact(compound, key)) return null;
+            String text = (String) GET_STRING.invokeExact(compound, key);
+            return !text.isEmpty() ? text : (Object) (int) GET_INT.invokeExact(compound, key);
+        }
+        
+        Object tag = (Object) GET_BASE.invokeExact(compound, key);
+        if (tag == null) return null;
+        
+        switch ((byte) GET_TYPE_ID.invokeExact(tag)) {
+            case TAG_BYTE:
+                return (byte) GET_BYTE.invokeExact(compound, key);
+            case TAG_SHORT:
+                return (short) GET_SHORT.invokeExact(compound, key);
+            case TAG_INT:
+                return (int) GET_INT.invokeExact(compound, key);
+            case TAG_LONG:
+                return (long) GET_LONG.invokeExact(compound, key);
+            case TAG_FLOAT:
+                return (float) GET_FLOAT.invokeExact(compound, key);
+            case TAG_DOUBLE:
+                return (double) GET_DOUBLE.invokeExact(compound, key);
+            case TAG_STRING:
+                return (String) GET_STRING.invokeExact(compound, key);
+            default:
+                return null;
+        }
     }
     
-    private static ItemStack asBukkitCopy(Object nmsItem) throws Exception {
-        Class<?> craftItemStack = getCraftBukkitClass("inventory.CraftItemStack");
-        Class<?> nmsItemStack = getNMSClass("ItemStack");
-        Method asBukkitCopy = craftItemStack.getMethod("asBukkitCopy", nmsItemStack);
-        return (ItemStack) asBukkitCopy.invoke(null, nmsItem);
+    private static Object asNMSCopy(ItemStack item) throws Throwable {
+        return (Object) AS_NMS_COPY.invokeExact(item);
     }
     
-    private static Object getOrCreateTag(Object nmsItem) throws Exception {
+    private static ItemStack asBukkitCopy(Object nmsItem) throws Throwable {
+        return (ItemStack) AS_BUKKIT_COPY.invokeExact(nmsItem);
+    }
+    
+    private static Object getOrCreateTag(Object nmsItem) throws Throwable {
         Object tag = getTag(nmsItem);
         if (tag == null) {
-            tag = getNMSClass("NBTTagCompound").newInstance();
+            tag = (Object) NEW_COMPOUND.invokeExact();
         }
         return tag;
     }
     
-    private static Object getTag(Object nmsItem) throws Exception {
-        return nmsItem.getClass().getMethod("getTag").invoke(nmsItem);
+    private static Object getTag(Object nmsItem) throws Throwable {
+        return (Object) GET_TAG.invokeExact(nmsItem);
     }
     
-    private static void setTag(Object nmsItem, Object compound) throws Exception {
-        Class<?> nbtClass = getNMSClass("NBTTagCompound");
-        nmsItem.getClass().getMethod("setTag", nbtClass).invoke(nmsItem, compound);
+    private static void setTag(Object nmsItem, Object compound) throws Throwable {
+        SET_TAG.invokeExact(nmsItem, compound);
     }
     
-    private static Class<?> getNMSClass(String name) throws ClassNotFoundException {
-        return Class.forName("net.minecraft.server." + VERSION + "." + name);
+    /**
+     * Resolve an NBTTagCompound setter as (Object, String, type) void
+     */
+    private static MethodHandle compoundSetter(MethodHandles.Lookup lookup, Class<?> compound,
+                                               String name, Class<?> type) throws ReflectiveOperationException {
+        return lookup.findVirtual(compound, name, MethodType.methodType(void.class, String.class, type))
+                .asType(MethodType.methodType(void.class, Object.class, String.class, type));
     }
     
-    private static Class<?> getCraftBukkitClass(String name) throws ClassNotFoundException {
-        return Class.forName("org.bukkit.craftbukkit." + VERSION + "." + name);
+    /**
+     * Resolve an NBTTagCompound getter as (Object, String) type
+     */
+    private static MethodHandle compoundGetter(MethodHandles.Lookup lookup, Class<?> compound,
+                                               String name, Class<?> type) throws ReflectiveOperationException {
+        return lookup.findVirtual(compound, name, MethodType.methodType(type, String.class))
+                .asType(MethodType.methodType(type, Object.class, String.class));
     }
 }
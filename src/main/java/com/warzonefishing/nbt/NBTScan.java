@@ -0,0 +1,101 @@
+package com.warzonefishing.nbt;
+
+/**
+ * Result of {@link NBTHelper#scan}: the requested NBT values of every inventory slot.
+ * Values keep the type they were stored with; the typed getters convert numbers
+ * as needed and return a default when a slot does not have the key.
+ */
+public final class NBTScan {
+
+    private final String[] keys;
+    // values[slot] is null when the slot has none of the keys
+    private final Object[][] values;
+    private final int[] amounts;
+
+    NBTScan(String[] keys, Object[][] values, int[] amounts) {
+        this.keys = keys;
+        this.values = values;
+        this.amounts = amounts;
+    }
+
+    /**
+     * Get the number of slots scanned
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Get the stack size in a slot (0 for an empty slot)
+     */
+    public int getAmount(int slot) {
+        return amounts[slot];
+    }
+
+    /**
+     * Check if a slot has any of the scanned keys
+     */
+    public boolean hasAny(int slot) {
+        return values[slot] != null;
+    }
+
+    public boolean has(int slot, String key) {
+        return get(slot, key) != null;
+    }
+
+    /**
+     * Get a raw value (Byte, Short, Integer, Long, Float, Double or String)
+     * @return The value, or null if the slot does not have the key
+     */
+    public Object get(int slot, String key) {
+        Object[] row = values[slot];
+        if (row == null) return null;
+        int index = indexOf(key);
+        return index >= 0 ? row[index] : null;
+    }
+
+    /**
+     * Get a value as a string
+     * @return The value, or null if the slot does not have the key
+     */
+    public String getString(int slot, String key) {
+        Object value = get(slot, key);
+        return value != null ? String.valueOf(value) : null;
+    }
+
+    /**
+     * Get a numeric value as an int
+     * @return The value, or 0 if the slot does not have the key or it is not a number
+     */
+    public int getInt(int slot, String key) {
+        Object value = get(slot, key);
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+
+    /**
+     * Get a numeric value as a double
+     * @return The value, or 0 if the slot does not have the key or it is not a number
+     */
+    public double getDouble(int slot, String key) {
+        Object value = get(slot, key);
+        return value instanceof Number ? ((Number) value).doubleValue() : 0.0;
+    }
+
+    /**
+     * Get a flag (booleans are stored as bytes)
+     * @return true if the value is a non-zero number
+     */
+    public boolean getBoolean(int slot, String key) {
+        Object value = get(slot, key);
+        return value instanceof Number && ((Number) value).intValue() != 0;
+    }
+
+    private int indexOf(String key) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,159 @@
+package com.warzonefishing.nbt;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A precompiled set of NBT tags that can be written onto items in a single step.
+ * The tags are built into an NMS compound once; applying the template converts the
+ * item to NMS and back only once and copies the prebuilt tags across.
+ *
+ * Example usage:
+ *   NBTTemplate template = NBTTemplate.builder()
+ *           .setString("warzone_rarity", "rare")
+ *           .setInt("sell_value", 50)
+ *           .build();
+ *   fish = template.apply(fish);
+ */
+public final class NBTTemplate {
+
+    private static final NBTTemplate EMPTY = new NBTTemplate(new String[0], new Object[0]);
+
+    private final String[] keys;
+    private final Object[] values;
+    private final Object compound;
+    private final Map<String, Object> view;
+
+    private NBTTemplate(String[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+        this.compound = keys.length > 0 ? NBTHelper.createCompound(keys, values) : null;
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], values[i]);
+        }
+        this.view = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Get a template with no tags
+     */
+    public static NBTTemplate empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Compile a template from a config-style map
+     * Integers, doubles and booleans keep their type, other numbers become doubles
+     * and anything else is stored as a string.
+     *
+     * @param nbtData Map of key-value pairs (may be null)
+     * @return The compiled template
+     */
+    public static NBTTemplate of(Map<String, Object> nbtData) {
+        if (nbtData == null || nbtData.isEmpty()) {
+            return EMPTY;
+        }
+        return builder().setAll(nbtData).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Write every tag of this template onto an item
+     * @param item The item to modify
+     * @return A copy of the item with the tags applied, or the item itself if there is nothing to do
+     */
+    public ItemStack apply(ItemStack item) {
+        if (keys.length == 0 || item == null) {
+            return item;
+        }
+        return NBTHelper.merge(item, compound, keys, values);
+    }
+
+    /**
+     * Get the tags in this template (read-only)
+     */
+    public Map<String, Object> getValues() {
+        return view;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    /**
+     * Collects tags before compiling them into a template
+     */
+    public static final class Builder {
+
+        private final Map<String, Object> values = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder setString(String key, String value) {
+            values.put(key, value);
+            return this;
+        }
+
+        public Builder setInt(String key, int value) {
+            values.put(key, value);
+            return this;
+        }
+
+        public Builder setDouble(String key, double value) {
+            values.put(key, value);
+            return this;
+        }
+
+        public Builder setBoolean(String key, boolean value) {
+            values.put(key, value);
+            return this;
+        }
+
+        /**
+         * Set a tag from an untyped value
+         */
+        public Builder set(String key, Object value) {
+            if (value instanceof String || value instanceof Integer
+                    || value instanceof Double || value instanceof Boolean) {
+                values.put(key, value);
+            } else if (value instanceof Number) {
+                // Handle other number types
+                values.put(key, ((Number) value).doubleValue());
+            } else {
+                // Convert to string
+                values.put(key, String.valueOf(value));
+            }
+            return this;
+        }
+
+        /**
+         * Set every tag from a config-style map
+         */
+        public Builder setAll(Map<String, Object> nbtData) {
+            for (Map.Entry<String, Object> entry : nbtData.entrySet()) {
+                set(entry.getKey(), entry.getValue());
+            }
+            return this;
+        }
+
+        public NBTTemplate build() {
+            if (values.isEmpty()) {
+                return EMPTY;
+            }
+            return new NBTTemplate(values.keySet().toArray(new String[0]), values.values().toArray());
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.warzonefishing.pipeline;
+
+import com.warzonefishing.listeners.ListenerSettings;
+import com.warzonefishing.models.FishingReward;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.UUID;
+
+/**
+ * State of a single catch as it moves through the pipeline.
+ * The player's name and UUID are captured up front so async stages never need
+ * to call into the Player. Main-thread stages fill in the reward and item;
+ * async stages only read them.
+ */
+public final class CatchContext {
+
+    private final Player player;
+    private final UUID uuid;
+    private final String playerName;
+    private final Location hookLocation;
+    private final Entity caught;
+    private final ListenerSettings settings;
+
+    private CatchPipeline pipeline;
+    private FishingReward reward;
+    private ItemStack rewardItem;
+    private boolean cancelled;
+
+    public CatchContext(Player player, Location hookLocation, Entity caught, ListenerSettings settings) {
+        this.player = player;
+        this.uuid = player.getUniqueId();
+        this.playerName = player.getName();
+        this.hookLocation = hookLocation;
+        this.caught = caught;
+        this.settings = settings;
+    }
+
+    void setPipeline(CatchPipeline pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * Run a task on the main thread (for async stages that need Bukkit state)
+     */
+    public void runSync(Runnable task) {
+        pipeline.runSync(task);
+    }
+
+    /**
+     * Stop the catch; no further stages run. Only main-thread stages may cancel.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+
+    public UUID getUniqueId() {
+        return uuid;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public Location getHookLocation() {
+        return hookLocation;
+    }
+
+    /**
+     * Get the entity the player reeled in (may be null)
+     */
+    public Entity getCaught() {
+        return caught;
+    }
+
+    public ListenerSettings getSettings() {
+        return settings;
+    }
+
+    public FishingReward getReward() {
+        return reward;
+    }
+
+    public void setReward(FishingReward reward) {
+        this.reward = reward;
+    }
+
+    /**
+     * Get the item given to the player (null if the reward has no item)
+     */
+    public ItemStack getRewardItem() {
+        return rewardItem;
+    }
+
+    public void setRewardItem(ItemStack rewardItem) {
+        this.rewardItem = rewardItem;
+    }
+}
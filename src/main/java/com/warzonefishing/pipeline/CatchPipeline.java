@@ -0,0 +1,189 @@
+package com.warzonefishing.pipeline;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Ordered list of catch stages.
+ * Main-thread stages run inline, in order, while the fish event is handled; if
+ * none of them cancels the catch, the async stages are handed to a single worker
+ * as one task and run there in order. One worker keeps each player's catches in
+ * order; stages sharing state with other threads must still guard it themselves
+ * (see CatchStatistics). The worker's queue is bounded; when it is
+ * full the async stages run on the caller instead, so no catch is dropped.
+ *
+ * Example usage:
+ *   CatchPipeline pipeline = CatchPipeline.builder(plugin)
+ *           .sync("roll", context -> context.setReward(...))
+ *           .async("statistics", context -> stats.recordCatch(...))
+ *           .build();
+ *   pipeline.run(new CatchContext(player, hook, caught, settings));
+ */
+public final class CatchPipeline {
+
+    private static final int QUEUE_CAPACITY = 1024;
+
+    private final Plugin plugin;
+    private final CatchStage[] syncStages;
+    private final CatchStage[] asyncStages;
+    private final List<CatchStage> stages;
+    private final ThreadPoolExecutor executor;
+
+    // Main-thread cost of completed catches, only touched on the main thread
+    private long mainThreadNanos;
+    private long completedCatches;
+
+    private CatchPipeline(Plugin plugin, List<CatchStage> stages) {
+        this.plugin = plugin;
+        this.stages = Collections.unmodifiableList(new ArrayList<>(stages));
+
+        List<CatchStage> sync = new ArrayList<>();
+        List<CatchStage> async = new ArrayList<>();
+        for (CatchStage stage : stages) {
+            (stage.isAsync() ? async : sync).add(stage);
+        }
+        this.syncStages = sync.toArray(new CatchStage[0]);
+        this.asyncStages = async.toArray(new CatchStage[0]);
+
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "WarzoneFishing-Catch");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public static Builder builder(Plugin plugin) {
+        return new Builder(plugin);
+    }
+
+    /**
+     * Process a catch. Must be called on the main thread.
+     * @param context The catch
+     */
+    public void run(CatchContext context) {
+        long start = System.nanoTime();
+        context.setPipeline(this);
+
+        for (CatchStage stage : syncStages) {
+            runStage(stage, context);
+            if (context.isCancelled()) return;
+        }
+
+        if (asyncStages.length > 0) {
+            executor.execute(() -> {
+                for (CatchStage stage : asyncStages) {
+                    runStage(stage, context);
+                }
+            });
+        }
+
+        mainThreadNanos += System.nanoTime() - start;
+        completedCatches++;
+    }
+
+    private void runStage(CatchStage stage, CatchContext context) {
+        try {
+            stage.run(context);
+        } catch (Throwable t) {
+            plugin.getLogger().log(Level.WARNING, "Catch stage '" + stage.getName() + "' failed for "
+                    + context.getPlayerName(), t);
+            if (!stage.isAsync()) {
+                context.cancel();
+            }
+        }
+    }
+
+    /**
+     * Run a task on the main thread, unless the plugin is shutting down
+     */
+    void runSync(Runnable task) {
+        if (Bukkit.isPrimaryThread()) {
+            task.run();
+        } else if (plugin.isEnabled()) {
+            Bukkit.getScheduler().runTask(plugin, task);
+        }
+    }
+
+    /**
+     * Stop accepting catches and wait for queued async stages to finish
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Timed out waiting for " + executor.getQueue().size()
+                        + " pending catch(es) to finish.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Get the stages in the order they were declared
+     */
+    public List<CatchStage> getStages() {
+        return stages;
+    }
+
+    /**
+     * Get the average main-thread time of a completed catch
+     * @return Nanoseconds per catch, or 0 if no catch has completed yet
+     */
+    public long getAverageMainThreadNanos() {
+        return completedCatches > 0 ? mainThreadNanos / completedCatches : 0L;
+    }
+
+    public long getCompletedCatches() {
+        return completedCatches;
+    }
+
+    /**
+     * Get the number of catches waiting for their async stages
+     */
+    public int getPendingCount() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Collects stages in order before building the pipeline
+     */
+    public static final class Builder {
+
+        private final Plugin plugin;
+        private final List<CatchStage> stages = new ArrayList<>();
+
+        private Builder(Plugin plugin) {
+            this.plugin = plugin;
+        }
+
+        public Builder stage(CatchStage stage) {
+            stages.add(stage);
+            return this;
+        }
+
+        public Builder sync(String name, Consumer<CatchContext> action) {
+            return stage(CatchStage.sync(name, action));
+        }
+
+        public Builder async(String name, Consumer<CatchContext> action) {
+            return stage(CatchStage.async(name, action));
+        }
+
+        public CatchPipeline build() {
+            return new CatchPipeline(plugin, stages);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.warzonefishing.pipeline;
+
+import java.util.function.Consumer;
+
+/**
+ * One named step of the catch pipeline.
+ * Main-thread stages may touch Bukkit state (inventories, entities, commands) and
+ * may cancel the catch; async stages run afterwards on the pipeline's worker and
+ * must marshal any Bukkit calls back with {@link CatchContext#runSync}.
+ */
+public interface CatchStage {
+
+    /**
+     * Get the stage name, used in error logs
+     */
+    String getName();
+
+    /**
+     * Check if this stage runs on the pipeline's worker instead of the main thread
+     */
+    boolean isAsync();
+
+    /**
+     * Run the stage for a catch
+     * @param context The catch being processed
+     */
+    void run(CatchContext context);
+
+    /**
+     * Create a stage that runs on the main thread
+     */
+    static CatchStage sync(String name, Consumer<CatchContext> action) {
+        return new SimpleCatchStage(name, false, action);
+    }
+
+    /**
+     * Create a stage that runs on the pipeline's worker
+     */
+    static CatchStage async(String name, Consumer<CatchContext> action) {
+        return new SimpleCatchStage(name, true, action);
+    }
+}
@@ -0,0 +1,34 @@
+package com.warzonefishing.pipeline;
+
+import java.util.function.Consumer;
+
+/**
+ * Stage backed by a lambda, see {@link CatchStage#sync} and {@link CatchStage#async}
+ */
+final class SimpleCatchStage implements CatchStage {
+
+    private final String name;
+    private final boolean async;
+    private final Consumer<CatchContext> action;
+
+    SimpleCatchStage(String name, boolean async, Consumer<CatchContext> action) {
+        this.name = name;
+        this.async = async;
+        this.action = action;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isAsync() {
+        return async;
+    }
+
+    @Override
+    public void run(CatchContext context) {
+        action.accept(context);
+    }
+}
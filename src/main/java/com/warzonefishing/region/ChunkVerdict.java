@@ -0,0 +1,13 @@
+package com.warzonefishing.region;
+
+/**
+ * How a whole chunk column relates to the warzone
+ */
+public enum ChunkVerdict {
+    /** Every block of the chunk is warzone */
+    INSIDE,
+    /** No block of the chunk is warzone */
+    OUTSIDE,
+    /** Part of the chunk may be warzone, so each location has to be checked */
+    MIXED
+}
@@ -0,0 +1,114 @@
+package com.warzonefishing.region;
+
+/**
+ * Open-addressing map from packed chunk coordinates to a verdict and its expiry time.
+ * Keys stay primitive longs, so a lookup allocates nothing. Expired entries are kept
+ * until their chunk is classified again and overwritten. Not thread-safe.
+ */
+final class ChunkVerdictMap {
+
+    private static final ChunkVerdict[] VERDICTS = ChunkVerdict.values();
+    // verdicts[i] == FREE marks an unused slot, otherwise it holds ordinal + 1
+    private static final byte FREE = 0;
+
+    private long[] keys;
+    private byte[] verdicts;
+    private long[] expiries;
+    private int mask;
+    private int size;
+
+    ChunkVerdictMap() {
+        allocate(64);
+    }
+
+    /**
+     * Pack chunk coordinates into a single key
+     */
+    static long pack(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Get the verdict for a chunk
+     * @param key The packed chunk coordinates
+     * @param now The current time in milliseconds
+     * @return The verdict, or null if the chunk is not cached or its entry has expired
+     */
+    ChunkVerdict get(long key, long now) {
+        int index = slot(key);
+        while (verdicts[index] != FREE) {
+            if (keys[index] == key) {
+                return expiries[index] > now ? VERDICTS[verdicts[index] - 1] : null;
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Store the verdict for a chunk
+     * @param key The packed chunk coordinates
+     * @param verdict The verdict
+     * @param expiry Time in milliseconds after which the verdict is stale
+     */
+    void put(long key, ChunkVerdict verdict, long expiry) {
+        int index = slot(key);
+        while (verdicts[index] != FREE) {
+            if (keys[index] == key) {
+                verdicts[index] = (byte) (verdict.ordinal() + 1);
+                expiries[index] = expiry;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        verdicts[index] = (byte) (verdict.ordinal() + 1);
+        expiries[index] = expiry;
+
+        // Keep the load factor at or below 3/4
+        if (++size * 4 > keys.length * 3) {
+            grow();
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        allocate(64);
+        size = 0;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        byte[] oldVerdicts = verdicts;
+        long[] oldExpiries = expiries;
+        allocate(oldKeys.length * 2);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldVerdicts[i] == FREE) continue;
+            int index = slot(oldKeys[i]);
+            while (verdicts[index] != FREE) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = oldKeys[i];
+            verdicts[index] = oldVerdicts[i];
+            expiries[index] = oldExpiries[i];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        verdicts = new byte[capacity];
+        expiries = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slot(long key) {
+        // Fibonacci hashing spreads neighbouring chunks across the table
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,125 @@
+package com.warzonefishing.region;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.logging.Logger;
+
+/**
+ * Provider for FactionsUUID and its forks (SavageFactions etc.).
+ * Board.getInstance, the FLocation constructor, Board.getFactionAt and the Faction
+ * checks are resolved once into MethodHandles. A location is warzone if the faction
+ * owning it reports isWarZone(), or its tag or id is "warzone". Claims cover whole
+ * chunks, so every chunk classifies as fully inside or fully outside.
+ */
+public final class FactionsRegionProvider implements RegionProvider {
+
+    private final Logger logger;
+    private final MethodHandle getBoard;        // () Object
+    private final MethodHandle newFLocation;    // (Location) Object
+    private final MethodHandle getFactionAt;    // (Object, Object) Object
+    // Faction checks, any of these may be missing on a fork
+    private final MethodHandle isWarZone;       // (Object) boolean
+    private final MethodHandle getTag;          // (Object) String
+    private final MethodHandle getId;           // (Object) String
+
+    private FactionsRegionProvider(Logger logger, MethodHandle getBoard, MethodHandle newFLocation,
+                                   MethodHandle getFactionAt, MethodHandle isWarZone,
+                                   MethodHandle getTag, MethodHandle getId) {
+        this.logger = logger;
+        this.getBoard = getBoard;
+        this.newFLocation = newFLocation;
+        this.getFactionAt = getFactionAt;
+        this.isWarZone = isWarZone;
+        this.getTag = getTag;
+        this.getId = getId;
+    }
+
+    /**
+     * Resolve the Factions API
+     * @param logger Logger for errors during checks
+     * @return The provider, or null if a FactionsUUID-style API is not available
+     */
+    public static FactionsRegionProvider create(Logger logger) {
+        try {
+            Class<?> boardClass = Class.forName("com.massivecraft.factions.Board");
+            Class<?> fLocationClass = Class.forName("com.massivecraft.factions.FLocation");
+            Class<?> factionClass = Class.forName("com.massivecraft.factions.Faction");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+            MethodHandle getBoard = lookup.findStatic(boardClass, "getInstance", MethodType.methodType(boardClass))
+                    .asType(MethodType.methodType(Object.class));
+            MethodHandle newFLocation = lookup.findConstructor(fLocationClass,
+                    MethodType.methodType(void.class, Location.class))
+                    .asType(MethodType.methodType(Object.class, Location.class));
+            MethodHandle getFactionAt = lookup.findVirtual(boardClass, "getFactionAt",
+                    MethodType.methodType(factionClass, fLocationClass))
+                    .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+
+            MethodHandle isWarZone = factionCheck(lookup, factionClass, "isWarZone", boolean.class);
+            MethodHandle getTag = factionCheck(lookup, factionClass, "getTag", String.class);
+            MethodHandle getId = factionCheck(lookup, factionClass, "getId", String.class);
+            if (isWarZone == null && getTag == null && getId == null) {
+                return null;
+            }
+
+            return new FactionsRegionProvider(logger, getBoard, newFLocation, getFactionAt, isWarZone, getTag, getId);
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle factionCheck(MethodHandles.Lookup lookup, Class<?> factionClass,
+                                             String name, Class<?> returnType) {
+        try {
+            return lookup.findVirtual(factionClass, name, MethodType.methodType(returnType))
+                    .asType(MethodType.methodType(returnType, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean isInWarzone(Location location) {
+        try {
+            return query(location);
+        } catch (Throwable t) {
+            logger.warning("Error checking Factions warzone: " + t.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public ChunkVerdict classifyChunk(World world, int chunkX, int chunkZ) {
+        try {
+            return query(new Location(world, chunkX << 4, 64, chunkZ << 4)) ? ChunkVerdict.INSIDE : ChunkVerdict.OUTSIDE;
+        } catch (Throwable t) {
+            // Don't cache a verdict we could not get
+            logger.warning("Error checking Factions warzone: " + t.getMessage());
+            return ChunkVerdict.MIXED;
+        }
+    }
+
+    private boolean query(Location location) throws Throwable {
+        Object board = (Object) getBoard.invokeExact();
+        Object fLocation = (Object) newFLocation.invokeExact(location);
+        Object faction = (Object) getFactionAt.invokeExact(board, fLocation);
+        if (faction == null) return false;
+
+        if (isWarZone != null && (boolean) isWarZone.invokeExact(faction)) {
+            return true;
+        }
+        if (getTag != null && "warzone".equalsIgnoreCase((String) getTag.invokeExact(faction))) {
+            return true;
+        }
+        return getId != null && "warzone".equalsIgnoreCase((String) getId.invokeExact(faction));
+    }
+
+    @Override
+    public String getName() {
+        return "factions";
+    }
+}
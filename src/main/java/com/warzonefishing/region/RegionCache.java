@@ -0,0 +1,111 @@
+package com.warzonefishing.region;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Caches another provider's verdicts per chunk.
+ * Each chunk is classified once as fully inside, fully outside or mixed; only
+ * locations in mixed chunks are passed through to the wrapped provider. Entries
+ * expire after the configured TTL, and the whole cache is dropped on reload or
+ * with /wf cache clear. Must only be used from the main thread.
+ */
+public final class RegionCache implements RegionProvider {
+
+    private final RegionProvider delegate;
+    private final long ttlMillis;
+    private final Map<UUID, ChunkVerdictMap> worlds = new HashMap<>();
+
+    private long hits;
+    private long misses;
+
+    /**
+     * @param delegate The provider to cache
+     * @param ttlSeconds How long a chunk verdict stays valid (0 keeps it until cleared)
+     */
+    public RegionCache(RegionProvider delegate, int ttlSeconds) {
+        this.delegate = delegate;
+        this.ttlMillis = ttlSeconds > 0 ? ttlSeconds * 1000L : 0L;
+    }
+
+    @Override
+    public boolean isInWarzone(Location location) {
+        World world = location.getWorld();
+        int chunkX = location.getBlockX() >> 4;
+        int chunkZ = location.getBlockZ() >> 4;
+        long key = ChunkVerdictMap.pack(chunkX, chunkZ);
+        long now = System.currentTimeMillis();
+
+        ChunkVerdictMap verdicts = worlds.get(world.getUID());
+        if (verdicts == null) {
+            verdicts = new ChunkVerdictMap();
+            worlds.put(world.getUID(), verdicts);
+        }
+
+        ChunkVerdict verdict = verdicts.get(key, now);
+        if (verdict != null) {
+            hits++;
+        } else {
+            misses++;
+            verdict = delegate.classifyChunk(world, chunkX, chunkZ);
+            verdicts.put(key, verdict, ttlMillis > 0 ? now + ttlMillis : Long.MAX_VALUE);
+        }
+
+        switch (verdict) {
+            case INSIDE:
+                return true;
+            case OUTSIDE:
+                return false;
+            default:
+                return delegate.isInWarzone(location);
+        }
+    }
+
+    @Override
+    public ChunkVerdict classifyChunk(World world, int chunkX, int chunkZ) {
+        return delegate.classifyChunk(world, chunkX, chunkZ);
+    }
+
+    @Override
+    public void invalidate() {
+        worlds.clear();
+        hits = 0;
+        misses = 0;
+        delegate.invalidate();
+    }
+
+    /**
+     * Get the number of cached chunk verdicts across all worlds
+     */
+    public int size() {
+        int size = 0;
+        for (ChunkVerdictMap verdicts : worlds.values()) {
+            size += verdicts.size();
+        }
+        return size;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Get the verdict TTL in seconds (0 if verdicts never expire)
+     */
+    public int getTtlSeconds() {
+        return (int) (ttlMillis / 1000L);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName() + " (cached)";
+    }
+}
@@ -0,0 +1,44 @@
+package com.warzonefishing.region;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+/**
+ * Decides whether a location counts as warzone for fishing rewards.
+ * One provider is chosen from the 'claim-plugin' setting on enable and on reload;
+ * adapters resolve everything they need up front so a check does no reflective lookups.
+ */
+public interface RegionProvider {
+
+    /**
+     * Check if a location is in the warzone
+     * @param location The location to check (usually the fish hook)
+     * @return true if fishing rewards apply at this location
+     */
+    boolean isInWarzone(Location location);
+
+    /**
+     * Classify a whole chunk column, so {@link RegionCache} can answer for every
+     * location in it without asking the provider again.
+     * Providers that cannot tell return MIXED, which checks each location.
+     *
+     * @param world The world
+     * @param chunkX Chunk X coordinate
+     * @param chunkZ Chunk Z coordinate
+     * @return The verdict for the chunk
+     */
+    default ChunkVerdict classifyChunk(World world, int chunkX, int chunkZ) {
+        return ChunkVerdict.MIXED;
+    }
+
+    /**
+     * Drop anything cached by this provider
+     */
+    default void invalidate() {
+    }
+
+    /**
+     * Get a short name for this provider, used in logs and /wf info
+     */
+    String getName();
+}
@@ -0,0 +1,66 @@
+package com.warzonefishing.region;
+
+import com.warzonefishing.listeners.ListenerSettings;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+
+import java.util.logging.Logger;
+
+/**
+ * Picks the region provider for the configured claim plugin.
+ * If the plugin is missing or its API cannot be resolved, fishing rewards are
+ * turned off everywhere rather than failing on every catch. Factions and WorldGuard
+ * providers are wrapped in a {@link RegionCache} unless it is disabled.
+ */
+public final class RegionProviders {
+
+    private RegionProviders() {
+    }
+
+    /**
+     * Create the provider for the current settings
+     * @param settings The listener settings
+     * @param logger Logger for hook failures
+     * @return The provider (never null)
+     */
+    public static RegionProvider create(ListenerSettings settings, Logger logger) {
+        RegionProvider provider = createProvider(settings, logger);
+        if (settings.isRegionCacheEnabled()
+                && (provider instanceof FactionsRegionProvider || provider instanceof WorldGuardRegionProvider)) {
+            return new RegionCache(provider, settings.getRegionCacheTtlSeconds());
+        }
+        return provider;
+    }
+
+    private static RegionProvider createProvider(ListenerSettings settings, Logger logger) {
+        switch (settings.getClaimPlugin()) {
+            case NONE:
+                return new WorldRegionProvider(settings.getAllowedWorlds());
+
+            case WORLDGUARD: {
+                Plugin worldGuard = Bukkit.getPluginManager().getPlugin("WorldGuard");
+                if (worldGuard == null) {
+                    return new StaticRegionProvider(false);
+                }
+                RegionProvider provider = WorldGuardRegionProvider.create(worldGuard, settings.getWorldGuardRegions(), logger);
+                if (provider == null) {
+                    logger.warning("Unsupported WorldGuard version! Region detection is disabled.");
+                    return new StaticRegionProvider(false);
+                }
+                return provider;
+            }
+
+            case FACTIONS:
+            default: {
+                RegionProvider provider = FactionsRegionProvider.create(logger);
+                if (provider == null) {
+                    if (Bukkit.getPluginManager().getPlugin("Factions") != null) {
+                        logger.warning("Unsupported Factions version! Warzone detection is disabled.");
+                    }
+                    return new StaticRegionProvider(false);
+                }
+                return provider;
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.warzonefishing.region;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+/**
+ * Provider that gives the same answer for every location.
+ * Used when the configured claim plugin cannot be hooked, and as a stand-in
+ * for Factions or WorldGuard when neither is installed.
+ */
+public final class StaticRegionProvider implements RegionProvider {
+
+    private final boolean inWarzone;
+
+    public StaticRegionProvider(boolean inWarzone) {
+        this.inWarzone = inWarzone;
+    }
+
+    @Override
+    public boolean isInWarzone(Location location) {
+        return inWarzone;
+    }
+
+    @Override
+    public ChunkVerdict classifyChunk(World world, int chunkX, int chunkZ) {
+        return inWarzone ? ChunkVerdict.INSIDE : ChunkVerdict.OUTSIDE;
+    }
+
+    @Override
+    public String getName() {
+        return inWarzone ? "everywhere" : "nowhere";
+    }
+}
@@ -0,0 +1,260 @@
+package com.warzonefishing.region;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.logging.Logger;
+
+/**
+ * Provider for WorldGuard 6: a location is warzone if any region applying there
+ * has one of the configured region IDs. The region manager lookup, vector
+ * constructor and region accessors are resolved once into MethodHandles, and the
+ * IDs are matched against a lowercased set instead of a case-insensitive scan.
+ *
+ * Chunks are classified by querying the regions that intersect the chunk column:
+ * no matching region means fully outside, a matching cuboid covering the whole
+ * column means fully inside, and anything else is a boundary chunk.
+ */
+public final class WorldGuardRegionProvider implements RegionProvider {
+
+    private final Logger logger;
+    private final Plugin worldGuard;
+    private final Set<String> regionIds;
+    private final MethodHandle getRegionManager;        // (Plugin, World) Object
+    private final MethodHandle newVector;               // (double, double, double) Object
+    private final MethodHandle getApplicableRegions;    // (Object, Object) Iterable
+    private final MethodHandle getId;                   // (Object) String
+    
+    // Chunk classification (optional, chunks are treated as boundary chunks without it)
+    private final ChunkQuery chunkQuery;
+
+    private WorldGuardRegionProvider(Logger logger, Plugin worldGuard, Set<String> regionIds,
+                                     MethodHandle getRegionManager, MethodHandle newVector,
+                                     MethodHandle getApplicableRegions, MethodHandle getId,
+                                     ChunkQuery chunkQuery) {
+        this.logger = logger;
+        this.worldGuard = worldGuard;
+        this.regionIds = regionIds;
+        this.getRegionManager = getRegionManager;
+        this.newVector = newVector;
+        this.getApplicableRegions = getApplicableRegions;
+        this.getId = getId;
+        this.chunkQuery = chunkQuery;
+    }
+
+    /**
+     * Resolve the WorldGuard API
+     * @param worldGuard The WorldGuard plugin instance
+     * @param regionIds The region IDs that count as warzone
+     * @param logger Logger for errors during checks
+     * @return The provider, or null if the WorldGuard 6 API is not available
+     */
+    public static WorldGuardRegionProvider create(Plugin worldGuard, Set<String> regionIds, Logger logger) {
+        try {
+            Class<?> wgClass = Class.forName("com.sk89q.worldguard.bukkit.WorldGuardPlugin");
+            Class<?> managerClass = Class.forName("com.sk89q.worldguard.protection.managers.RegionManager");
+            Class<?> setClass = Class.forName("com.sk89q.worldguard.protection.ApplicableRegionSet");
+            Class<?> regionClass = Class.forName("com.sk89q.worldguard.protection.regions.ProtectedRegion");
+            Class<?> vectorClass = Class.forName("com.sk89q.worldedit.Vector");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+            MethodHandle getRegionManager = lookup.findVirtual(wgClass, "getRegionManager",
+                    MethodType.methodType(managerClass, World.class))
+                    .asType(MethodType.methodType(Object.class, Plugin.class, World.class));
+            MethodHandle newVector = lookup.findConstructor(vectorClass,
+                    MethodType.methodType(void.class, double.class, double.class, double.class))
+                    .asType(MethodType.methodType(Object.class, double.class, double.class, double.class));
+            MethodHandle getApplicableRegions = lookup.findVirtual(managerClass, "getApplicableRegions",
+                    MethodType.methodType(setClass, vectorClass))
+                    .asType(MethodType.methodType(Iterable.class, Object.class, Object.class));
+            MethodHandle getId = lookup.findVirtual(regionClass, "getId", MethodType.methodType(String.class))
+                    .asType(MethodType.methodType(String.class, Object.class));
+
+            Set<String> ids = new HashSet<>();
+            for (String id : regionIds) {
+                ids.add(id.toLowerCase(Locale.ROOT));
+            }
+
+            return new WorldGuardRegionProvider(logger, worldGuard, Collections.unmodifiableSet(ids),
+                    getRegionManager, newVector, getApplicableRegions, getId,
+                    ChunkQuery.create(lookup, managerClass, setClass, regionClass, vectorClass));
+        } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public boolean isInWarzone(Location location) {
+        if (regionIds.isEmpty()) return false;
+
+        try {
+            Object manager = (Object) getRegionManager.invokeExact(worldGuard, location.getWorld());
+            if (manager == null) return false;
+
+            Object vector = (Object) newVector.invokeExact(location.getX(), location.getY(), location.getZ());
+            Iterable<?> regions = (Iterable<?>) getApplicableRegions.invokeExact(manager, vector);
+            for (Object region : regions) {
+                String id = (String) getId.invokeExact(region);
+                if (id != null && regionIds.contains(id.toLowerCase(Locale.ROOT))) {
+                    return true;
+                }
+            }
+        } catch (Throwable t) {
+            logger.warning("Error checking WorldGuard region: " + t.getMessage());
+        }
+        return false;
+    }
+
+    @Override
+    public ChunkVerdict classifyChunk(World world, int chunkX, int chunkZ) {
+        if (regionIds.isEmpty()) return ChunkVerdict.OUTSIDE;
+        if (chunkQuery == null) return ChunkVerdict.MIXED;
+
+        try {
+            Object manager = (Object) getRegionManager.invokeExact(worldGuard, world);
+            if (manager == null) return ChunkVerdict.OUTSIDE;
+
+            int minX = chunkX << 4;
+            int minZ = chunkZ << 4;
+            int maxY = world.getMaxHeight() - 1;
+            Object chunk = chunkQuery.column(minX, minZ, maxY);
+
+            boolean matched = false;
+            for (Object region : chunkQuery.intersecting(manager, chunk)) {
+                String id = (String) getId.invokeExact(region);
+                if (id == null || !regionIds.contains(id.toLowerCase(Locale.ROOT))) continue;
+
+                if (chunkQuery.covers(region, minX, minZ, maxY)) {
+                    return ChunkVerdict.INSIDE;
+                }
+                matched = true;
+            }
+            return matched ? ChunkVerdict.MIXED : ChunkVerdict.OUTSIDE;
+        } catch (Throwable t) {
+            logger.warning("Error classifying WorldGuard chunk: " + t.getMessage());
+            return ChunkVerdict.MIXED;
+        }
+    }
+
+    /**
+     * Get the region IDs that count as warzone (lowercased)
+     */
+    public Set<String> getRegionIds() {
+        return regionIds;
+    }
+
+    @Override
+    public String getName() {
+        return "worldguard";
+    }
+
+    /**
+     * The WorldGuard calls needed to test a chunk column against regions
+     */
+    private static final class ChunkQuery {
+
+        private static final String CHUNK_REGION_ID = "__wf_chunk__";
+
+        private final Class<?> cuboidClass;
+        private final MethodHandle newBlockVector;          // (int, int, int) Object
+        private final MethodHandle newCuboid;               // (String, Object, Object) Object
+        private final MethodHandle getIntersecting;         // (Object, Object) Iterable
+        private final MethodHandle getMinimumPoint;         // (Object) Object
+        private final MethodHandle getMaximumPoint;         // (Object) Object
+        private final MethodHandle getBlockX;               // (Object) int
+        private final MethodHandle getBlockY;               // (Object) int
+        private final MethodHandle getBlockZ;               // (Object) int
+
+        private ChunkQuery(Class<?> cuboidClass, MethodHandle newBlockVector, MethodHandle newCuboid,
+                           MethodHandle getIntersecting, MethodHandle getMinimumPoint, MethodHandle getMaximumPoint,
+                           MethodHandle getBlockX, MethodHandle getBlockY, MethodHandle getBlockZ) {
+            this.cuboidClass = cuboidClass;
+            this.newBlockVector = newBlockVector;
+            this.newCuboid = newCuboid;
+            this.getIntersecting = getIntersecting;
+            this.getMinimumPoint = getMinimumPoint;
+            this.getMaximumPoint = getMaximumPoint;
+            this.getBlockX = getBlockX;
+            this.getBlockY = getBlockY;
+            this.getBlockZ = getBlockZ;
+        }
+
+        static ChunkQuery create(MethodHandles.Lookup lookup, Class<?> managerClass, Class<?> setClass,
+                                 Class<?> regionClass, Class<?> vectorClass) {
+            try {
+                Class<?> blockVectorClass = Class.forName("com.sk89q.worldedit.BlockVector");
+                Class<?> cuboidClass = Class.forName("com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion");
+
+                MethodHandle newBlockVector = lookup.findConstructor(blockVectorClass,
+                        MethodType.methodType(void.class, int.class, int.class, int.class))
+                        .asType(MethodType.methodType(Object.class, int.class, int.class, int.class));
+                MethodHandle newCuboid = lookup.findConstructor(cuboidClass,
+                        MethodType.methodType(void.class, String.class, blockVectorClass, blockVectorClass))
+                        .asType(MethodType.methodType(Object.class, String.class, Object.class, Object.class));
+                MethodHandle getIntersecting = lookup.findVirtual(managerClass, "getApplicableRegions",
+                        MethodType.methodType(setClass, regionClass))
+                        .asType(MethodType.methodType(Iterable.class, Object.class, Object.class));
+                MethodHandle getMinimumPoint = lookup.findVirtual(regionClass, "getMinimumPoint",
+                        MethodType.methodType(blockVectorClass))
+                        .asType(MethodType.methodType(Object.class, Object.class));
+                MethodHandle getMaximumPoint = lookup.findVirtual(regionClass, "getMaximumPoint",
+                        MethodType.methodType(blockVectorClass))
+                        .asType(MethodType.methodType(Object.class, Object.class));
+
+                return new ChunkQuery(cuboidClass, newBlockVector, newCuboid, getIntersecting,
+                        getMinimumPoint, getMaximumPoint,
+                        coordinate(lookup, vectorClass, "getBlockX"),
+                        coordinate(lookup, vectorClass, "getBlockY"),
+                        coordinate(lookup, vectorClass, "getBlockZ"));
+            } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+                return null;
+            }
+        }
+
+        private static MethodHandle coordinate(MethodHandles.Lookup lookup, Class<?> vectorClass, String name)
+                throws NoSuchMethodException, IllegalAccessException {
+            return lookup.findVirtual(vectorClass, name, MethodType.methodType(int.class))
+                    .asType(MethodType.methodType(int.class, Object.class));
+        }
+
+        /**
+         * Build a temporary cuboid covering a full chunk column
+         */
+        Object column(int minX, int minZ, int maxY) throws Throwable {
+            Object min = (Object) newBlockVector.invokeExact(minX, 0, minZ);
+            Object max = (Object) newBlockVector.invokeExact(minX + 15, maxY, minZ + 15);
+            return (Object) newCuboid.invokeExact(CHUNK_REGION_ID, min, max);
+        }
+
+        /**
+         * Get the regions intersecting a region
+         */
+        Iterable<?> intersecting(Object manager, Object region) throws Throwable {
+            return (Iterable<?>) getIntersecting.invokeExact(manager, region);
+        }
+
+        /**
+         * Check if a region is a cuboid containing the whole chunk column
+         */
+        boolean covers(Object region, int minX, int minZ, int maxY) throws Throwable {
+            if (!cuboidClass.isInstance(region)) return false;
+
+            Object min = (Object) getMinimumPoint.invokeExact(region);
+            Object max = (Object) getMaximumPoint.invokeExact(region);
+            return (int) getBlockX.invokeExact(min) <= minX
+                    && (int) getBlockY.invokeExact(min) <= 0
+                    && (int) getBlockZ.invokeExact(min) <= minZ
+                    && (int) getBlockX.invokeExact(max) >= minX + 15
+                    && (int) getBlockY.invokeExact(max) >= maxY
+                    && (int) getBlockZ.invokeExact(max) >= minZ + 15;
+        }
+    }
+}
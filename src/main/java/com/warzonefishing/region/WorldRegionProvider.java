@@ -0,0 +1,30 @@
+package com.warzonefishing.region;
+
+import org.bukkit.Location;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Provider for claim-plugin 'none': every location in an allowed world is warzone.
+ * An empty world list allows all worlds.
+ */
+public final class WorldRegionProvider implements RegionProvider {
+
+    private final Set<String> worlds;
+
+    public WorldRegionProvider(Set<String> worlds) {
+        this.worlds = Collections.unmodifiableSet(new HashSet<>(worlds));
+    }
+
+    @Override
+    public boolean isInWarzone(Location location) {
+        return worlds.isEmpty() || worlds.contains(location.getWorld().getName());
+    }
+
+    @Override
+    public String getName() {
+        return "worlds";
+    }
+}
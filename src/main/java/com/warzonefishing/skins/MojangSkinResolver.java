@@ -0,0 +1,71 @@
+package com.warzonefishing.skins;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves skins through the Mojang API: name to UUID, then UUID to signed profile
+ */
+public class MojangSkinResolver implements SkinResolver {
+
+    private static final String PROFILE_URL = "https://api.mojang.com/users/profiles/minecraft/";
+    private static final String SESSION_URL = "https://sessionserver.mojang.com/session/minecraft/profile/";
+    private static final int TIMEOUT_MILLIS = 5000;
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*\"([0-9a-fA-F]{32})\"");
+    private static final Pattern TEXTURES = Pattern.compile(
+            "\"name\"\\s*:\\s*\"textures\"\\s*,\\s*\"value\"\\s*:\\s*\"([^\"]+)\"");
+
+    @Override
+    public String resolveTexture(String playerName) throws IOException {
+        String profile = get(PROFILE_URL + URLEncoder.encode(playerName, "UTF-8"));
+        if (profile == null) return null;
+
+        Matcher id = ID.matcher(profile);
+        if (!id.find()) return null;
+
+        String session = get(SESSION_URL + id.group(1));
+        if (session == null) return null;
+
+        Matcher textures = TEXTURES.matcher(session);
+        return textures.find() ? textures.group(1) : null;
+    }
+
+    /**
+     * Fetch a URL
+     * @return The response body, or null if there is no such player (204/404)
+     */
+    private static String get(String url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setConnectTimeout(TIMEOUT_MILLIS);
+        connection.setReadTimeout(TIMEOUT_MILLIS);
+        try {
+            int status = connection.getResponseCode();
+            if (status == HttpURLConnection.HTTP_NO_CONTENT || status == HttpURLConnection.HTTP_NOT_FOUND) {
+                return null;
+            }
+            if (status != HttpURLConnection.HTTP_OK) {
+                throw new IOException("HTTP " + status + " from " + url);
+            }
+
+            try (InputStream in = connection.getInputStream()) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+                return new String(out.toByteArray(), StandardCharsets.UTF_8);
+            }
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
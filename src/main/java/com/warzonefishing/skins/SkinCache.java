@@ -0,0 +1,165 @@
+package com.warzonefishing.skins;
+
+import com.warzonefishing.WarzoneFishing;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * Skin textures of skull-owner rewards, stored in skin-cache.yml.
+ * Missing owners are resolved on an async task when rewards load; the catch path
+ * only ever reads textures that are already known and never waits for a lookup.
+ * Owners without a skin are remembered and not looked up again; failed lookups are
+ * retried a few times. Every batch of new textures bumps a generation counter, so
+ * items built without a skin know to rebuild.
+ */
+public class SkinCache {
+
+    private final WarzoneFishing plugin;
+    private final SkinResolver resolver;
+    private final File file;
+    private final Map<String, String> textures = new ConcurrentHashMap<>();
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_DELAY_TICKS = 20L * 60 * 5;
+
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    // Owners the resolver had no skin for
+    private final Set<String> misses = ConcurrentHashMap.newKeySet();
+    // Failed lookups per owner, reset once one succeeds
+    private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    public SkinCache(WarzoneFishing plugin, SkinResolver resolver) {
+        this.plugin = plugin;
+        this.resolver = resolver;
+        this.file = new File(plugin.getDataFolder(), "skin-cache.yml");
+        load();
+    }
+
+    /**
+     * Load cached textures from disk
+     */
+    private void load() {
+        if (!file.exists()) return;
+
+        YamlConfiguration data = YamlConfiguration.loadConfiguration(file);
+        ConfigurationSection section = data.getConfigurationSection("textures");
+        if (section == null) return;
+
+        for (String name : section.getKeys(false)) {
+            String texture = section.getString(name);
+            if (texture != null && !texture.isEmpty()) {
+                textures.put(normalize(name), texture);
+            }
+        }
+    }
+
+    /**
+     * Write cached textures to disk
+     */
+    private synchronized void save() {
+        YamlConfiguration data = new YamlConfiguration();
+        for (Map.Entry<String, String> entry : textures.entrySet()) {
+            data.set("textures." + entry.getKey(), entry.getValue());
+        }
+
+        try {
+            data.save(file);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to save skin-cache.yml", e);
+        }
+    }
+
+    /**
+     * Get a resolved texture
+     * @param playerName The skull owner
+     * @return The Base64 texture, or null if it has not been resolved (yet)
+     */
+    public String getTexture(String playerName) {
+        if (playerName == null) return null;
+        return textures.get(normalize(playerName));
+    }
+
+    public boolean isResolved(String playerName) {
+        return getTexture(playerName) != null;
+    }
+
+    /**
+     * Get a counter that changes whenever new textures were resolved
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Resolve any owners that are not cached yet, on an async task
+     * @param playerNames The skull owners to look up
+     */
+    public void resolve(Collection<String> playerNames) {
+        final List<String> missing = new ArrayList<>();
+        for (String name : playerNames) {
+            String key = normalize(name);
+            if (!textures.containsKey(key) && !misses.contains(key) && pending.add(key)) {
+                missing.add(name);
+            }
+        }
+        if (missing.isEmpty()) return;
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            int resolved = 0;
+            List<String> retry = new ArrayList<>();
+            for (String name : missing) {
+                String key = normalize(name);
+                try {
+                    String texture = resolver.resolveTexture(name);
+                    if (texture != null) {
+                        textures.put(key, texture);
+                        attempts.remove(key);
+                        resolved++;
+                    } else {
+                        misses.add(key);
+                        plugin.getLogger().warning("No skin found for skull owner '" + name + "', using a plain head.");
+                    }
+                } catch (IOException e) {
+                    int failed = attempts.merge(key, 1, Integer::sum);
+                    if (failed < MAX_ATTEMPTS) {
+                        retry.add(name);
+                        plugin.getLogger().warning("Failed to resolve skin for '" + name + "': " + e.getMessage()
+                                + " (retrying in 5 minutes)");
+                    } else {
+                        attempts.remove(key);
+                        plugin.getLogger().warning("Failed to resolve skin for '" + name + "': " + e.getMessage()
+                                + " (giving up until the next reload)");
+                    }
+                } finally {
+                    pending.remove(key);
+                }
+            }
+
+            if (resolved > 0) {
+                generation.incrementAndGet();
+                save();
+                plugin.getLogger().info("Resolved " + resolved + " skull owner skin(s).");
+            }
+            if (!retry.isEmpty() && plugin.isEnabled()) {
+                Bukkit.getScheduler().runTaskLaterAsynchronously(plugin, () -> resolve(retry), RETRY_DELAY_TICKS);
+            }
+        });
+    }
+
+    private static String normalize(String playerName) {
+        return playerName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,18 @@
+package com.warzonefishing.skins;
+
+import java.io.IOException;
+
+/**
+ * Looks up the skin texture of a player by name.
+ * Implementations may block (network calls); {@link SkinCache} only calls them off the main thread.
+ */
+public interface SkinResolver {
+
+    /**
+     * Resolve a player's skin
+     * @param playerName The player name
+     * @return The Base64 "textures" property value, or null if the player has no skin or does not exist
+     * @throws IOException If the lookup failed and may be retried later
+     */
+    String resolveTexture(String playerName) throws IOException;
+}
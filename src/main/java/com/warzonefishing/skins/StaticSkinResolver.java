@@ -0,0 +1,28 @@
+package com.warzonefishing.skins;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Resolver backed by a fixed map of names to textures, with no network access.
+ * Used in offline mode (only textures already in the skin cache are used) and in tests.
+ */
+public class StaticSkinResolver implements SkinResolver {
+
+    private final Map<String, String> textures = new HashMap<>();
+
+    public StaticSkinResolver() {
+    }
+
+    public StaticSkinResolver(Map<String, String> textures) {
+        for (Map.Entry<String, String> entry : textures.entrySet()) {
+            this.textures.put(entry.getKey().toLowerCase(Locale.ROOT), entry.getValue());
+        }
+    }
+
+    @Override
+    public String resolveTexture(String playerName) {
+        return textures.get(playerName.toLowerCase(Locale.ROOT));
+    }
+}
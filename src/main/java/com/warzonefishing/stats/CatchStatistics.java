@@ -1,7 +1,9 @@
 package com.warzonefishing.stats;
 
 import com.warzonefishing.WarzoneFishing;
+import com.warzonefishing.managers.RarityRegistry;
 import com.warzonefishing.models.FishingReward;
+import com.warzonefishing.models.Rarity;
 
 import java.io.File;
 import java.sql.*;
@@ -12,6 +14,10 @@ import java.util.logging.Level;
  * SQLite-backed catch statistics tracker.
  * Records per-player fishing data including catch counts, rarity breakdowns,
  * unique discoveries, and first-catch timestamps.
+ *
+ * Catches are recorded on the catch pipeline's worker while /wf stats, /wf top and
+ * the GUI query from other threads, so every method using the shared connection
+ * is synchronized.
  */
 public class CatchStatistics {
 
@@ -100,10 +106,10 @@ public class CatchStatistics {
      *
      * @param player   The player's UUID
      * @param rewardId The reward ID
-     * @param rarity   The reward rarity (COMMON, UNCOMMON, RARE, EPIC, LEGENDARY)
+     * @param rarity   The reward rarity tier
      * @return true if this was a NEW discovery (first time catching this reward), false otherwise
      */
-    public boolean recordCatch(UUID player, String rewardId, String rarity) {
+    public synchronized boolean recordCatch(UUID player, String rewardId, Rarity rarity) {
         if (connection == null) return false;
 
         String uuid = player.toString();
@@ -133,7 +139,7 @@ public class CatchStatistics {
                     ")")) {
                 stmt.setString(1, uuid);
                 stmt.setString(2, rewardId);
-                stmt.setString(3, rarity != null ? rarity.toUpperCase() : "COMMON");
+                stmt.setString(3, rarity != null ? rarity.getName() : "COMMON");
                 stmt.setString(4, uuid);
                 stmt.setString(5, rewardId);
                 stmt.setString(6, uuid);
@@ -160,10 +166,14 @@ public class CatchStatistics {
      * @param player The player's UUID
      * @return PlayerCatchStats with all data
      */
-    public PlayerCatchStats getPlayerStats(UUID player) {
+    public synchronized PlayerCatchStats getPlayerStats(UUID player) {
+        RarityRegistry rarities = plugin.getRewardManager().getRarities();
+        int[] catchesByRarityOrdinal = new int[rarities.size()];
+
         if (connection == null) {
             return new PlayerCatchStats(0, 0, getTotalRewardCount(), 
-                    new HashMap<String, Integer>(), new HashMap<String, Integer>());
+                    new HashMap<String, Integer>(), new HashMap<String, Integer>(),
+                    rarities, catchesByRarityOrdinal);
         }
 
         String uuid = player.toString();
@@ -190,6 +200,11 @@ public class CatchStatistics {
                     // Aggregate by rarity
                     int current = catchesByRarity.containsKey(rarity) ? catchesByRarity.get(rarity) : 0;
                     catchesByRarity.put(rarity, current + count);
+
+                    Rarity tier = rarities.get(rarity);
+                    if (tier != null) {
+                        catchesByRarityOrdinal[tier.getOrdinal()] += count;
+                    }
                 }
             }
         } catch (SQLException e) {
@@ -197,13 +212,13 @@ public class CatchStatistics {
         }
 
         return new PlayerCatchStats(totalCatches, uniqueDiscovered, getTotalRewardCount(),
-                catchesByRarity, catchesByReward);
+                catchesByRarity, catchesByReward, rarities, catchesByRarityOrdinal);
     }
 
     /**
      * Get total catches for a player
      */
-    public int getTotalCatches(UUID player) {
+    public synchronized int getTotalCatches(UUID player) {
         if (connection == null) return 0;
 
         try (PreparedStatement stmt = connection.prepareStatement(
@@ -222,7 +237,7 @@ public class CatchStatistics {
     /**
      * Get count of unique reward IDs caught by a player
      */
-    public int getUniqueCaught(UUID player) {
+    public synchronized int getUniqueCaught(UUID player) {
         if (connection == null) return 0;
 
         try (PreparedStatement stmt = connection.prepareStatement(
@@ -244,7 +259,7 @@ public class CatchStatistics {
      * @param limit Maximum number of entries
      * @return List of LeaderboardEntry sorted by total catches descending
      */
-    public List<LeaderboardEntry> getTopFishers(int limit) {
+    public synchronized List<LeaderboardEntry> getTopFishers(int limit) {
         List<LeaderboardEntry> entries = new ArrayList<LeaderboardEntry>();
         if (connection == null) return entries;
 
@@ -269,7 +284,7 @@ public class CatchStatistics {
     /**
      * Check if a player has discovered (caught at least once) a specific reward
      */
-    public boolean hasDiscovered(UUID player, String rewardId) {
+    public synchronized boolean hasDiscovered(UUID player, String rewardId) {
         if (connection == null) return false;
 
         try (PreparedStatement stmt = connection.prepareStatement(
@@ -287,7 +302,7 @@ public class CatchStatistics {
     /**
      * Get the catch count for a specific reward for a player
      */
-    public int getCatchCount(UUID player, String rewardId) {
+    public synchronized int getCatchCount(UUID player, String rewardId) {
         if (connection == null) return 0;
 
         try (PreparedStatement stmt = connection.prepareStatement(
@@ -329,42 +344,51 @@ public class CatchStatistics {
     /**
      * Find the rarest catch for a player (highest rarity with lowest total catch count).
      * Returns the display name of that reward, or null if none.
+     * Uses a single query and ranks rows by rarity ordinal.
      */
-    public String getRarestCatch(UUID player) {
+    public synchronized String getRarestCatch(UUID player) {
         if (connection == null) return null;
 
-        // Rarity priority order (highest first)
-        String[] rarityOrder = {"LEGENDARY", "EPIC", "RARE", "UNCOMMON", "COMMON"};
+        RarityRegistry rarities = plugin.getRewardManager().getRarities();
+        String rarestId = null;
+        int rarestOrdinal = -1;
+        int rarestCount = Integer.MAX_VALUE;
 
-        try {
-            for (String rarity : rarityOrder) {
-                try (PreparedStatement stmt = connection.prepareStatement(
-                        "SELECT reward_id FROM catch_stats WHERE uuid = ? AND rarity = ? AND count > 0 " +
-                        "ORDER BY count ASC LIMIT 1")) {
-                    stmt.setString(1, player.toString());
-                    stmt.setString(2, rarity);
-                    ResultSet rs = stmt.executeQuery();
-                    if (rs.next()) {
-                        String rewardId = rs.getString("reward_id");
-                        // Try to get display name from RewardManager
-                        FishingReward reward = plugin.getRewardManager().getRewardById(rewardId);
-                        if (reward != null) {
-                            return reward.getItemDisplayName();
-                        }
-                        return rewardId;
-                    }
+        try (PreparedStatement stmt = connection.prepareStatement(
+                "SELECT reward_id, rarity, count FROM catch_stats WHERE uuid = ? AND count > 0")) {
+            stmt.setString(1, player.toString());
+            ResultSet rs = stmt.executeQuery();
+            while (rs.next()) {
+                Rarity rarity = rarities.get(rs.getString("rarity"));
+                if (rarity == null) continue;
+
+                int count = rs.getInt("count");
+                int ordinal = rarity.getOrdinal();
+                if (ordinal > rarestOrdinal || (ordinal == rarestOrdinal && count < rarestCount)) {
+                    rarestId = rs.getString("reward_id");
+                    rarestOrdinal = ordinal;
+                    rarestCount = count;
                 }
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.WARNING, "Failed to get rarest catch", e);
+            return null;
+        }
+
+        if (rarestId == null) return null;
+
+        // Try to get display name from RewardManager
+        FishingReward reward = plugin.getRewardManager().getRewardById(rarestId);
+        if (reward != null) {
+            return reward.getItemDisplayName();
         }
-        return null;
+        return rarestId;
     }
 
     /**
      * Shutdown the database connection
      */
-    public void shutdown() {
+    public synchronized void shutdown() {
         if (connection != null) {
             try {
                 connection.close();
@@ -372,6 +396,7 @@ public class CatchStatistics {
             } catch (SQLException e) {
                 plugin.getLogger().log(Level.WARNING, "Failed to close catch statistics database", e);
             }
+            connection = null;
         }
     }
 }
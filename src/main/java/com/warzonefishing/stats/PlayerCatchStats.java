@@ -1,5 +1,8 @@
 package com.warzonefishing.stats;
 
+import com.warzonefishing.managers.RarityRegistry;
+import com.warzonefishing.models.Rarity;
+
 import java.util.Map;
 
 /**
@@ -12,14 +15,19 @@ public class PlayerCatchStats {
     private final int totalRewards;
     private final Map<String, Integer> catchesByRarity;
     private final Map<String, Integer> catchesByReward;
+    private final RarityRegistry rarities;
+    private final int[] catchesByRarityOrdinal;
 
     public PlayerCatchStats(int totalCatches, int uniqueDiscovered, int totalRewards,
-                            Map<String, Integer> catchesByRarity, Map<String, Integer> catchesByReward) {
+                            Map<String, Integer> catchesByRarity, Map<String, Integer> catchesByReward,
+                            RarityRegistry rarities, int[] catchesByRarityOrdinal) {
         this.totalCatches = totalCatches;
         this.uniqueDiscovered = uniqueDiscovered;
         this.totalRewards = totalRewards;
         this.catchesByRarity = catchesByRarity;
         this.catchesByReward = catchesByReward;
+        this.rarities = rarities;
+        this.catchesByRarityOrdinal = catchesByRarityOrdinal;
     }
 
     public int getTotalCatches() {
@@ -42,6 +50,14 @@ public class PlayerCatchStats {
         return catchesByReward;
     }
 
+    /**
+     * Get the number of catches of a rarity tier
+     */
+    public int getCatches(Rarity rarity) {
+        int ordinal = rarities.indexOf(rarity);
+        return ordinal >= 0 ? catchesByRarityOrdinal[ordinal] : 0;
+    }
+
     /**
      * Get the discovery percentage (unique discovered / total possible)
      */
@@ -0,0 +1,169 @@
+package com.warzonefishing.utils;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Walker/Vose alias table for weighted random selection.
+ * The table is compiled once from a fixed set of weights; every draw afterwards
+ * costs a single random double and one array lookup, whatever the number of entries.
+ *
+ * Example usage:
+ *   AliasTable<FishingReward> table = AliasTable.build(rewards, FishingReward::getChance);
+ *   FishingReward reward = table.sample(random);
+ *
+ * @param <T> The type of entry being selected
+ */
+public final class AliasTable<T> {
+
+    private static final AliasTable<?> EMPTY = new AliasTable<>(new Object[0], new double[0], new int[0], 0.0);
+
+    private final Object[] entries;
+    private final double[] probability;
+    private final int[] alias;
+    private final double totalWeight;
+
+    private AliasTable(Object[] entries, double[] probability, int[] alias, double totalWeight) {
+        this.entries = entries;
+        this.probability = probability;
+        this.alias = alias;
+        this.totalWeight = totalWeight;
+    }
+
+    /**
+     * Get a table that never selects anything
+     * @return The shared empty table
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> AliasTable<T> empty() {
+        return (AliasTable<T>) EMPTY;
+    }
+
+    /**
+     * Compile an alias table from a list of entries.
+     * Entries with a zero, negative or NaN weight are left out of the table.
+     *
+     * @param source The entries to select from
+     * @param weigher Function returning the weight of an entry
+     * @return The compiled table
+     */
+    public static <T> AliasTable<T> build(List<? extends T> source, ToDoubleFunction<? super T> weigher) {
+        int count = 0;
+        Object[] entries = new Object[source.size()];
+        double[] weights = new double[source.size()];
+        double total = 0.0;
+
+        for (T entry : source) {
+            double weight = weigher.applyAsDouble(entry);
+            if (!(weight > 0)) continue;
+            entries[count] = entry;
+            weights[count] = weight;
+            total += weight;
+            count++;
+        }
+
+        if (count == 0) {
+            return empty();
+        }
+
+        if (count < entries.length) {
+            Object[] trimmed = new Object[count];
+            System.arraycopy(entries, 0, trimmed, 0, count);
+            entries = trimmed;
+        }
+
+        double[] probability = new double[count];
+        int[] alias = new int[count];
+
+        // Scale weights so the average column is exactly 1.0
+        double[] scaled = new double[count];
+        int[] small = new int[count];
+        int[] large = new int[count];
+        int smallSize = 0;
+        int largeSize = 0;
+
+        for (int i = 0; i < count; i++) {
+            scaled[i] = weights[i] * count / total;
+            if (scaled[i] < 1.0) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+
+        // Pair each under-full column with an over-full one (Vose's method)
+        while (smallSize > 0 && largeSize > 0) {
+            int less = small[--smallSize];
+            int more = large[--largeSize];
+
+            probability[less] = scaled[less];
+            alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+
+        // Whatever is left is full up to floating point error
+        while (largeSize > 0) {
+            int index = large[--largeSize];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+        while (smallSize > 0) {
+            int index = small[--smallSize];
+            probability[index] = 1.0;
+            alias[index] = index;
+        }
+
+        return new AliasTable<>(entries, probability, alias, total);
+    }
+
+    /**
+     * Select a random entry according to its weight
+     * @param random The random source to draw from
+     * @return The selected entry, or null if the table is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T sample(Random random) {
+        int size = entries.length;
+        if (size == 0) {
+            return null;
+        }
+
+        // One double picks both the column and the coin flip inside it
+        double roll = random.nextDouble() * size;
+        int column = (int) roll;
+        if (column >= size) {
+            column = size - 1;
+        }
+
+        int index = (roll - column) < probability[column] ? column : alias[column];
+        return (T) entries[index];
+    }
+
+    /**
+     * Get the number of selectable entries
+     */
+    public int size() {
+        return entries.length;
+    }
+
+    /**
+     * Check if the table has no selectable entries
+     */
+    public boolean isEmpty() {
+        return entries.length == 0;
+    }
+
+    /**
+     * Get the sum of all selectable weights
+     */
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+}
@@ -0,0 +1,181 @@
+package com.warzonefishing.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message with {placeholders}, parsed once into literal runs and placeholder slots.
+ * Colored templates translate their literal runs at compile time, so rendering is a
+ * single pass into a pre-sized StringBuilder with no color translation or string search.
+ *
+ * Example usage:
+ *   MessageTemplate template = MessageTemplate.compile("&bCaught {item}!", true);
+ *   String message = template.render(player.getName(), itemName, "RARE", "§3", "trout");
+ */
+public final class MessageTemplate {
+
+    /**
+     * The placeholders a template can contain
+     */
+    public enum Placeholder {
+        PLAYER("{player}"),
+        ITEM("{item}"),
+        RARITY("{rarity}"),
+        RARITY_COLOR("{rarity_color}"),
+        ID("{id}");
+
+        private static final Placeholder[] VALUES = values();
+
+        private final String token;
+
+        Placeholder(String token) {
+            this.token = token;
+        }
+
+        public String getToken() {
+            return token;
+        }
+    }
+
+    private static final MessageTemplate EMPTY_COLORED = new MessageTemplate("", new String[]{""}, new Placeholder[0], true, "");
+    private static final MessageTemplate EMPTY_PLAIN = new MessageTemplate("", new String[]{""}, new Placeholder[0], false, "");
+
+    private final String source;
+    // literals.length == slots.length + 1, literal i is followed by slot i
+    private final String[] literals;
+    private final Placeholder[] slots;
+    private final boolean colored;
+    private final String text;
+    private final int literalLength;
+
+    private MessageTemplate(String source, String[] literals, Placeholder[] slots, boolean colored, String text) {
+        this.source = source;
+        this.literals = literals;
+        this.slots = slots;
+        this.colored = colored;
+        this.text = text;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parse a template
+     * @param source The raw template (null is treated as empty)
+     * @param colored Whether to translate & color codes in the literal text
+     * @return The compiled template
+     */
+    public static MessageTemplate compile(String source, boolean colored) {
+        if (source == null || source.isEmpty()) {
+            return colored ? EMPTY_COLORED : EMPTY_PLAIN;
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> slots = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+
+        int index = 0;
+        while (index < source.length()) {
+            char c = source.charAt(index);
+            Placeholder placeholder = c == '{' ? match(source, index) : null;
+            if (placeholder == null) {
+                literal.append(c);
+                index++;
+                continue;
+            }
+            literals.add(colored ? MessageUtils.color(literal.toString()) : literal.toString());
+            slots.add(placeholder);
+            literal.setLength(0);
+            index += placeholder.getToken().length();
+        }
+        literals.add(colored ? MessageUtils.color(literal.toString()) : literal.toString());
+
+        String text = colored ? MessageUtils.color(source) : source;
+        return new MessageTemplate(source, literals.toArray(new String[0]), slots.toArray(new Placeholder[0]), colored, text);
+    }
+
+    private static Placeholder match(String source, int index) {
+        for (Placeholder placeholder : Placeholder.VALUES) {
+            if (source.startsWith(placeholder.getToken(), index)) {
+                return placeholder;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Render the template. Null values render as empty text.
+     * @return The message with every placeholder filled in
+     */
+    public String render(String player, String item, String rarity, String rarityColor, String id) {
+        if (slots.length == 0) {
+            return literals[0];
+        }
+
+        String[] values = {player, item, rarity, rarityColor, id};
+        int length = literalLength;
+        for (Placeholder slot : slots) {
+            String value = values[slot.ordinal()];
+            if (value != null) length += value.length();
+        }
+
+        StringBuilder result = new StringBuilder(length);
+        for (int i = 0; i < slots.length; i++) {
+            result.append(literals[i]);
+            String value = values[slots[i].ordinal()];
+            if (value != null) result.append(value);
+        }
+        return result.append(literals[slots.length]).toString();
+    }
+
+    /**
+     * Check if the template has any placeholders
+     */
+    public boolean hasPlaceholders() {
+        return slots.length > 0;
+    }
+
+    /**
+     * Check if the template contains a placeholder
+     */
+    public boolean contains(Placeholder placeholder) {
+        for (Placeholder slot : slots) {
+            if (slot == placeholder) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check if the literal text was color-translated at compile time
+     */
+    public boolean isColored() {
+        return colored;
+    }
+
+    public boolean isEmpty() {
+        return text.isEmpty();
+    }
+
+    /**
+     * Get the template exactly as it was compiled
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Get the (color-translated, if colored) template text with placeholders left in place
+     */
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -1,5 +1,6 @@
 package com.warzonefishing.utils;
 
+import com.warzonefishing.skins.SkinCache;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
@@ -7,12 +8,19 @@ import org.bukkit.inventory.meta.SkullMeta;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for creating custom skull items with Base64 textures
  * Compatible with 1.8.8
  * 
+ * One GameProfile is built per texture, with a UUID derived from the texture, and
+ * shared by every skull using it. Identical custom heads therefore carry identical
+ * NBT and stack with each other.
+ * 
  * Example texture (from HeadHunting):
  * "eyJ0ZXh0dXJlcyI6eyJTS0lOIjp7InVybCI6Imh0dHA6Ly90ZXh0dXJlcy5taW5lY3JhZnQubmV0L3RleHR1cmUvYWJjMTIzIn19fQ=="
  */
@@ -20,6 +28,15 @@ public class SkullUtils {
     
     private static final String VERSION;
     
+    // GameProfile per texture string (profiles are never modified once built)
+    private static final Map<String, Object> PROFILES = new ConcurrentHashMap<>();
+    
+    // CraftMetaSkull.profile, resolved on first use
+    private static volatile Field profileField;
+    
+    // Resolved skull-owner skins, set on enable
+    private static volatile SkinCache skinCache;
+    
     static {
         VERSION = Bukkit.getServer().getClass().getPackage().getName().split("\\.")[3];
     }
@@ -47,42 +64,38 @@ public class SkullUtils {
             return skull;
         }
         
-        SkullMeta meta = (SkullMeta) skull.getItemMeta();
-        
-        try {
-            // Create GameProfile with unique UUID
-            Class<?> gameProfileClass = Class.forName("com.mojang.authlib.GameProfile");
-            Object profile = gameProfileClass.getConstructor(UUID.class, String.class)
-                    .newInstance(UUID.randomUUID(), null);
-            
-            // Get properties from profile
-            Method getProperties = gameProfileClass.getMethod("getProperties");
-            Object propertyMap = getProperties.invoke(profile);
-            
-            // Create Property with texture
-            Class<?> propertyClass = Class.forName("com.mojang.authlib.properties.Property");
-            Object property = propertyClass.getConstructor(String.class, String.class)
-                    .newInstance("textures", texture);
-            
-            // Add property to map using Multimap.put
-            propertyMap.getClass().getMethod("put", Object.class, Object.class)
-                    .invoke(propertyMap, "textures", property);
-            
-            // Set profile on SkullMeta using reflection
-            Field profileField = meta.getClass().getDeclaredField("profile");
-            profileField.setAccessible(true);
-            profileField.set(meta, profile);
-            
-            skull.setItemMeta(meta);
-        } catch (Exception e) {
-            Bukkit.getLogger().warning("[WarzoneFishing] Failed to apply skull texture: " + e.getMessage());
-        }
-        
-        return skull;
+        return applyProfile(skull, texture);
+    }
+    
+    /**
+     * Set the cache used to look up skull-owner skins
+     * @param cache The skin cache (null to disable owner skins)
+     */
+    public static void setSkinCache(SkinCache cache) {
+        skinCache = cache;
+    }
+    
+    /**
+     * Check if a player's skin is available without a lookup
+     * @param playerName The player's name
+     * @return true if createPlayerSkull will produce a textured head
+     */
+    public static boolean isOwnerResolved(String playerName) {
+        SkinCache cache = skinCache;
+        return cache != null && cache.isResolved(playerName);
     }
     
     /**
-     * Create a skull from a player's name (will fetch their actual skin)
+     * Get the skin cache's generation, which changes whenever new skins were resolved
+     * @return The generation, or 0 if there is no skin cache
+     */
+    public static long getSkinGeneration() {
+        SkinCache cache = skinCache;
+        return cache != null ? cache.getGeneration() : 0L;
+    }
+    
+    /**
+     * Create a skull from a player's name, using their cached skin
      * @param playerName The player's name
      * @return ItemStack skull with the player's skin
      */
@@ -92,16 +105,20 @@ public class SkullUtils {
     
     /**
      * Create a skull from a player's name with amount
+     * Only skins already in the skin cache are used, so this never blocks on a
+     * profile lookup; an unresolved owner gives a plain head.
+     * 
      * @param playerName The player's name
      * @param amount Stack size
      * @return ItemStack skull with the player's skin
      */
     public static ItemStack createPlayerSkull(String playerName, int amount) {
-        ItemStack skull = new ItemStack(Material.SKULL_ITEM, amount, (short) 3);
-        SkullMeta meta = (SkullMeta) skull.getItemMeta();
-        meta.setOwner(playerName);
-        skull.setItemMeta(meta);
-        return skull;
+        SkinCache cache = skinCache;
+        String texture = cache != null ? cache.getTexture(playerName) : null;
+        if (texture != null) {
+            return createSkull(texture, amount);
+        }
+        return new ItemStack(Material.SKULL_ITEM, amount, (short) 3);
     }
     
     /**
@@ -119,26 +136,24 @@ public class SkullUtils {
             return skull;
         }
         
+        return applyProfile(skull, texture);
+    }
+    
+    /**
+     * Set the cached profile for a texture on a skull's meta
+     */
+    private static ItemStack applyProfile(ItemStack skull, String texture) {
         SkullMeta meta = (SkullMeta) skull.getItemMeta();
         
         try {
-            Class<?> gameProfileClass = Class.forName("com.mojang.authlib.GameProfile");
-            Object profile = gameProfileClass.getConstructor(UUID.class, String.class)
-                    .newInstance(UUID.randomUUID(), null);
-            
-            Method getProperties = gameProfileClass.getMethod("getProperties");
-            Object propertyMap = getProperties.invoke(profile);
-            
-            Class<?> propertyClass = Class.forName("com.mojang.authlib.properties.Property");
-            Object property = propertyClass.getConstructor(String.class, String.class)
-                    .newInstance("textures", texture);
+            Object profile = PROFILES.get(texture);
+            if (profile == null) {
+                profile = createProfile(texture);
+                PROFILES.put(texture, profile);
+            }
             
-            propertyMap.getClass().getMethod("put", Object.class, Object.class)
-                    .invoke(propertyMap, "textures", property);
-            
-            Field profileField = meta.getClass().getDeclaredField("profile");
-            profileField.setAccessible(true);
-            profileField.set(meta, profile);
+            // Set profile on SkullMeta using reflection
+            getProfileField(meta).set(meta, profile);
             
             skull.setItemMeta(meta);
         } catch (Exception e) {
@@ -148,6 +163,42 @@ public class SkullUtils {
         return skull;
     }
     
+    /**
+     * Build a GameProfile carrying a texture, with a UUID derived from the texture
+     */
+    private static Object createProfile(String texture) throws Exception {
+        UUID id = UUID.nameUUIDFromBytes(texture.getBytes(StandardCharsets.UTF_8));
+        
+        Class<?> gameProfileClass = Class.forName("com.mojang.authlib.GameProfile");
+        Object profile = gameProfileClass.getConstructor(UUID.class, String.class)
+                .newInstance(id, null);
+        
+        // Get properties from profile
+        Method getProperties = gameProfileClass.getMethod("getProperties");
+        Object propertyMap = getProperties.invoke(profile);
+        
+        // Create Property with texture
+        Class<?> propertyClass = Class.forName("com.mojang.authlib.properties.Property");
+        Object property = propertyClass.getConstructor(String.class, String.class)
+                .newInstance("textures", texture);
+        
+        // Add property to map using Multimap.put
+        propertyMap.getClass().getMethod("put", Object.class, Object.class)
+                .invoke(propertyMap, "textures", property);
+        
+        return profile;
+    }
+    
+    private static Field getProfileField(SkullMeta meta) throws NoSuchFieldException {
+        Field field = profileField;
+        if (field == null) {
+            field = meta.getClass().getDeclaredField("profile");
+            field.setAccessible(true);
+            profileField = field;
+        }
+        return field;
+    }
+    
     /**
      * Check if an item is a player skull
      * @param item The item to check
@@ -2,20 +2,154 @@ package com.warzonefishing.utils;
 
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
 
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Title API for 1.8.8 using NMS reflection
  * Sends title, subtitle, and action bar messages to players
+ * 
+ * Packet constructors, title actions and the player connection accessors are
+ * resolved once when the class loads. TIMES packets carry no text, so one packet
+ * is built per distinct (fadeIn, stay, fadeOut) and reused for every send.
+ * 
+ * Text that is sent repeatedly should be wrapped once with {@link #prepare(String)}:
+ * a PreparedText parses its chat component and builds its packets on first use,
+ * then hands the same packets out on every later send.
+ * 
+ * While the dispatcher is running ({@link #startDispatcher(Plugin)}), the queue methods
+ * only record what to show; an async task builds and writes the packets once per tick,
+ * keeping only the latest title and action bar queued for each player in that tick.
  */
 public class TitleAPI {
     
-    private static final String VERSION;
+    private static final boolean nmsAvailable;
+    
+    // Packet construction
+    private static final MethodHandle SERIALIZE;        // (String) Object
+    private static final MethodHandle TITLE_PACKET;     // (Object, Object) Object
+    private static final MethodHandle TIMES_PACKET;     // (Object, Object, int, int, int) Object
+    private static final MethodHandle CHAT_PACKET;      // (Object, byte) Object
+    
+    // Packet delivery
+    private static final MethodHandle GET_HANDLE;       // (Object) Object
+    private static final MethodHandle GET_CONNECTION;   // (Object) Object
+    private static final MethodHandle SEND_PACKET;      // (Object, Object) void
+    
+    // PacketPlayOutTitle.EnumTitleAction constants, indexed by TitleAction ordinal
+    private static final Object[] ACTIONS;
+    
+    // Text-less packets, built once
+    private static final Object CLEAR_PACKET;
+    private static final Object RESET_PACKET;
+    private static final Map<Long, Object> TIMES_CACHE = new ConcurrentHashMap<>();
+    
+    // Timings above this (~29 hours) are not packed into a cache key
+    private static final int MAX_CACHED_TIMING = (1 << 21) - 1;
+    
+    // Notifications waiting for the next dispatcher run, at most one per player
+    private static final Map<UUID, Notification> PENDING = new ConcurrentHashMap<>();
+    private static volatile BukkitTask dispatcher;
+    private static volatile Logger dispatcherLogger;
+    // Only the first unexpected flush failure is logged, to avoid a warning per tick
+    private static volatile boolean flushFailureLogged;
     
     static {
-        // Get the server version (e.g., v1_8_R3)
-        VERSION = Bukkit.getServer().getClass().getPackage().getName().split("\\.")[3];
+        String version = null;
+        MethodHandle serialize = null;
+        MethodHandle titlePacket = null;
+        MethodHandle timesPacket = null;
+        MethodHandle chatPacket = null;
+        MethodHandle getHandle = null;
+        MethodHandle getConnection = null;
+        MethodHandle sendPacket = null;
+        Object[] actions = new Object[TitleAction.values().length];
+        Object clearPacket = null;
+        Object resetPacket = null;
+        boolean available = false;
+        
+        try {
+            // Get the server version (e.g., v1_8_R3)
+            version = Bukkit.getServer().getClass().getPackage().getName().split("\\.")[3];
+            
+            Class<?> chatClass = getNMSClass(version, "IChatBaseComponent");
+            Class<?> serializerClass = getNMSClass(version, "IChatBaseComponent$ChatSerializer");
+            Class<?> titleClass = getNMSClass(version, "PacketPlayOutTitle");
+            Class<?> actionClass = getNMSClass(version, "PacketPlayOutTitle$EnumTitleAction");
+            Class<?> chatPacketClass = getNMSClass(version, "PacketPlayOutChat");
+            Class<?> packetClass = getNMSClass(version, "Packet");
+            Class<?> entityPlayerClass = getNMSClass(version, "EntityPlayer");
+            Class<?> connectionClass = getNMSClass(version, "PlayerConnection");
+            Class<?> craftPlayerClass = Class.forName("org.bukkit.craftbukkit." + version + ".entity.CraftPlayer");
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            
+            serialize = lookup.findStatic(serializerClass, "a", MethodType.methodType(chatClass, String.class))
+                    .asType(MethodType.methodType(Object.class, String.class));
+            titlePacket = lookup.findConstructor(titleClass, MethodType.methodType(void.class, actionClass, chatClass))
+                    .asType(MethodType.methodType(Object.class, Object.class, Object.class));
+            timesPacket = lookup.findConstructor(titleClass,
+                    MethodType.methodType(void.class, actionClass, chatClass, int.class, int.class, int.class))
+                    .asType(MethodType.methodType(Object.class, Object.class, Object.class, int.class, int.class, int.class));
+            chatPacket = lookup.findConstructor(chatPacketClass, MethodType.methodType(void.class, chatClass, byte.class))
+                    .asType(MethodType.methodType(Object.class, Object.class, byte.class));
+            
+            getHandle = lookup.findVirtual(craftPlayerClass, "getHandle", MethodType.methodType(entityPlayerClass))
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            getConnection = lookup.findGetter(entityPlayerClass, "playerConnection", connectionClass)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            sendPacket = lookup.findVirtual(connectionClass, "sendPacket", MethodType.methodType(void.class, packetClass))
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            
+            for (TitleAction action : TitleAction.values()) {
+                actions[action.ordinal()] = actionClass.getField(action.name()).get(null);
+            }
+            clearPacket = (Object) titlePacket.invokeExact(actions[TitleAction.CLEAR.ordinal()], (Object) null);
+            resetPacket = (Object) titlePacket.invokeExact(actions[TitleAction.RESET.ordinal()], (Object) null);
+            
+            available = true;
+        } catch (Throwable e) {
+            Bukkit.getLogger().warning("[WarzoneFishing] NMS not available - titles will be sent as chat messages");
+        }
+        
+        SERIALIZE = serialize;
+        TITLE_PACKET = titlePacket;
+        TIMES_PACKET = timesPacket;
+        CHAT_PACKET = chatPacket;
+        GET_HANDLE = getHandle;
+        GET_CONNECTION = getConnection;
+        SEND_PACKET = sendPacket;
+        ACTIONS = actions;
+        CLEAR_PACKET = clearPacket;
+        RESET_PACKET = resetPacket;
+        nmsAvailable = available;
+    }
+    
+    /**
+     * Check if titles and action bars can be sent as packets
+     * @return true if NMS is accessible
+     */
+    public static boolean isAvailable() {
+        return nmsAvailable;
+    }
+    
+    /**
+     * Wrap text so its chat component and packets are built only once
+     * @param text The (already colored) text, may be null
+     * @return The prepared text
+     */
+    public static PreparedText prepare(String text) {
+        return text == null || text.isEmpty() ? PreparedText.EMPTY : new PreparedText(text);
     }
     
     /**
@@ -28,25 +162,43 @@ public class TitleAPI {
      * @param fadeOut Fade out time in ticks
      */
     public static void sendTitle(Player player, String title, String subtitle, int fadeIn, int stay, int fadeOut) {
+        sendTitle(player, prepare(title), prepare(subtitle), fadeIn, stay, fadeOut);
+    }
+    
+    /**
+     * Send a prepared title and subtitle to a player
+     * @param player The player to send to
+     * @param title The title text
+     * @param subtitle The subtitle text
+     * @param fadeIn Fade in time in ticks
+     * @param stay Display time in ticks
+     * @param fadeOut Fade out time in ticks
+     */
+    public static void sendTitle(Player player, PreparedText title, PreparedText subtitle,
+                                 int fadeIn, int stay, int fadeOut) {
         try {
+            if (!nmsAvailable) {
+                throw new IllegalStateException("NMS not available");
+            }
+            
+            Object connection = getConnection(player);
+            
             // Send timing packet first
-            sendTimings(player, fadeIn, stay, fadeOut);
+            sendPacket(connection, getTimesPacket(fadeIn, stay, fadeOut));
             
             // Send title if present
-            if (title != null && !title.isEmpty()) {
-                Object titlePacket = createTitlePacket(title, TitleAction.TITLE);
-                sendPacket(player, titlePacket);
+            if (!title.isEmpty()) {
+                sendPacket(connection, title.getTitlePacket());
             }
             
             // Send subtitle if present
-            if (subtitle != null && !subtitle.isEmpty()) {
-                Object subtitlePacket = createTitlePacket(subtitle, TitleAction.SUBTITLE);
-                sendPacket(player, subtitlePacket);
+            if (!subtitle.isEmpty()) {
+                sendPacket(connection, subtitle.getSubtitlePacket());
             }
-        } catch (Exception e) {
+        } catch (Throwable e) {
             // Fallback to chat message if title fails
-            if (title != null) player.sendMessage(MessageUtils.color(title));
-            if (subtitle != null) player.sendMessage(MessageUtils.color(subtitle));
+            if (!title.isEmpty()) player.sendMessage(title.getText());
+            if (!subtitle.isEmpty()) player.sendMessage(subtitle.getText());
         }
     }
     
@@ -56,19 +208,158 @@ public class TitleAPI {
      * @param message The message to display
      */
     public static void sendActionBar(Player player, String message) {
+        sendActionBar(player, prepare(MessageUtils.color(message)));
+    }
+    
+    /**
+     * Send a prepared action bar message to a player
+     * @param player The player to send to
+     * @param message The message to display
+     */
+    public static void sendActionBar(Player player, PreparedText message) {
+        if (message.isEmpty()) return;
+        
         try {
-            Object chatComponent = getNMSClass("IChatBaseComponent").getDeclaredClasses()[0]
-                    .getMethod("a", String.class)
-                    .invoke(null, "{\"text\":\"" + message + "\"}");
-            
-            Object packet = getNMSClass("PacketPlayOutChat")
-                    .getConstructor(getNMSClass("IChatBaseComponent"), byte.class)
-                    .newInstance(chatComponent, (byte) 2);
+            if (!nmsAvailable) {
+                throw new IllegalStateException("NMS not available");
+            }
             
-            sendPacket(player, packet);
-        } catch (Exception e) {
+            sendPacket(getConnection(player), message.getActionBarPacket());
+        } catch (Throwable e) {
             // Fallback to regular message
-            player.sendMessage(MessageUtils.color(message));
+            player.sendMessage(message.getText());
+        }
+    }
+    
+    /**
+     * Send one chat message to many players.
+     * The chat packet is built once and the same instance is written to every
+     * recipient, so the message is converted to a chat component only once.
+     * 
+     * @param message The message to send
+     * @param recipients The players to send to
+     */
+    public static void broadcast(PreparedText message, Collection<? extends Player> recipients) {
+        if (message.isEmpty()) return;
+        
+        Object packet = null;
+        if (nmsAvailable) {
+            try {
+                packet = message.getChatPacket();
+            } catch (Throwable ignored) {
+                // Fall back to regular messages below
+            }
+        }
+        
+        for (Player player : recipients) {
+            if (packet != null) {
+                try {
+                    sendPacket(getConnection(player), packet);
+                    continue;
+                } catch (Throwable ignored) {
+                    // Fall back to a regular message for this player
+                }
+            }
+            player.sendMessage(message.getText());
+        }
+    }
+    
+    /**
+     * Start the async notification dispatcher
+     * @param plugin The plugin owning the task
+     */
+    public static synchronized void startDispatcher(Plugin plugin) {
+        if (dispatcher != null || !nmsAvailable) return;
+        dispatcherLogger = plugin.getLogger();
+        flushFailureLogged = false;
+        dispatcher = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, TitleAPI::flush, 1L, 1L);
+    }
+    
+    /**
+     * Stop the dispatcher, dropping anything still queued
+     */
+    public static synchronized void stopDispatcher() {
+        if (dispatcher != null) {
+            dispatcher.cancel();
+            dispatcher = null;
+        }
+        PENDING.clear();
+    }
+    
+    /**
+     * Queue a title for the dispatcher, replacing any title queued for the player this tick.
+     * Sends immediately if the dispatcher is not running; without NMS that is a chat
+     * message, so async callers should check {@link #isAvailable()} first.
+     */
+    public static void queueTitle(Player player, PreparedText title, PreparedText subtitle,
+                                  int fadeIn, int stay, int fadeOut) {
+        if (dispatcher == null) {
+            sendTitle(player, title, subtitle, fadeIn, stay, fadeOut);
+            return;
+        }
+        
+        PENDING.compute(player.getUniqueId(), (id, pending) -> {
+            Notification notification = pending != null ? pending : new Notification(player);
+            notification.title = title;
+            notification.subtitle = subtitle;
+            notification.fadeIn = fadeIn;
+            notification.stay = stay;
+            notification.fadeOut = fadeOut;
+            return notification;
+        });
+    }
+    
+    /**
+     * Queue an action bar message for the dispatcher, replacing any queued for the player this tick.
+     * Sends immediately if the dispatcher is not running; without NMS that is a chat
+     * message, so async callers should check {@link #isAvailable()} first.
+     */
+    public static void queueActionBar(Player player, PreparedText message) {
+        if (dispatcher == null) {
+            sendActionBar(player, message);
+            return;
+        }
+        
+        PENDING.compute(player.getUniqueId(), (id, pending) -> {
+            Notification notification = pending != null ? pending : new Notification(player);
+            notification.actionBar = message;
+            return notification;
+        });
+    }
+    
+    /**
+     * Write every queued notification (runs on the dispatcher thread)
+     */
+    private static void flush() {
+        Iterator<UUID> it = PENDING.keySet().iterator();
+        while (it.hasNext()) {
+            Notification notification = PENDING.remove(it.next());
+            if (notification == null || !notification.player.isOnline()) continue;
+            
+            try {
+                Object connection = getConnection(notification.player);
+                if (notification.title != null) {
+                    sendPacket(connection, getTimesPacket(notification.fadeIn, notification.stay, notification.fadeOut));
+                    if (!notification.title.isEmpty()) {
+                        sendPacket(connection, notification.title.getTitlePacket());
+                    }
+                    if (!notification.subtitle.isEmpty()) {
+                        sendPacket(connection, notification.subtitle.getSubtitlePacket());
+                    }
+                }
+                if (notification.actionBar != null && !notification.actionBar.isEmpty()) {
+                    sendPacket(connection, notification.actionBar.getActionBarPacket());
+                }
+            } catch (Throwable t) {
+                // Player disconnected mid-flush, nothing to show them
+                if (!notification.player.isOnline()) continue;
+                
+                if (!flushFailureLogged) {
+                    flushFailureLogged = true;
+                    dispatcherLogger.log(Level.WARNING, "Failed to send title/action bar to "
+                            + notification.player.getName() + " (further failures are not logged)", t);
+                }
+            }
         }
     }
     
@@ -77,16 +368,11 @@ public class TitleAPI {
      * @param player The player to clear
      */
     public static void clearTitle(Player player) {
+        if (!nmsAvailable) return;
+        
         try {
-            Class<?> packetClass = getNMSClass("PacketPlayOutTitle");
-            Class<?> actionClass = getNMSClass("PacketPlayOutTitle$EnumTitleAction");
-            
-            Object clearAction = actionClass.getField("CLEAR").get(null);
-            Constructor<?> constructor = packetClass.getConstructor(actionClass, getNMSClass("IChatBaseComponent"));
-            Object packet = constructor.newInstance(clearAction, null);
-            
-            sendPacket(player, packet);
-        } catch (Exception ignored) {
+            sendPacket(getConnection(player), CLEAR_PACKET);
+        } catch (Throwable ignored) {
             // Silently fail - title will disappear on its own
         }
     }
@@ -96,73 +382,72 @@ public class TitleAPI {
      * @param player The player to reset
      */
     public static void resetTitle(Player player) {
+        if (!nmsAvailable) return;
+        
         try {
-            Class<?> packetClass = getNMSClass("PacketPlayOutTitle");
-            Class<?> actionClass = getNMSClass("PacketPlayOutTitle$EnumTitleAction");
-            
-            Object resetAction = actionClass.getField("RESET").get(null);
-            Constructor<?> constructor = packetClass.getConstructor(actionClass, getNMSClass("IChatBaseComponent"));
-            Object packet = constructor.newInstance(resetAction, null);
-            
-            sendPacket(player, packet);
-        } catch (Exception ignored) {
+            sendPacket(getConnection(player), RESET_PACKET);
+        } catch (Throwable ignored) {
             // Silently fail
         }
     }
     
     /**
-     * Send title timing packet
+     * Get the title timing packet, reusing one packet per distinct timing
      */
-    private static void sendTimings(Player player, int fadeIn, int stay, int fadeOut) throws Exception {
-        Class<?> packetClass = getNMSClass("PacketPlayOutTitle");
-        Class<?> actionClass = getNMSClass("PacketPlayOutTitle$EnumTitleAction");
-        
-        Object timingAction = actionClass.getField("TIMES").get(null);
-        Constructor<?> constructor = packetClass.getConstructor(
-                actionClass, 
-                getNMSClass("IChatBaseComponent"), 
-                int.class, int.class, int.class
-        );
-        Object packet = constructor.newInstance(timingAction, null, fadeIn, stay, fadeOut);
+    private static Object getTimesPacket(int fadeIn, int stay, int fadeOut) throws Throwable {
+        if ((fadeIn | stay | fadeOut) < 0
+                || fadeIn > MAX_CACHED_TIMING || stay > MAX_CACHED_TIMING || fadeOut > MAX_CACHED_TIMING) {
+            return createTimesPacket(fadeIn, stay, fadeOut);
+        }
         
-        sendPacket(player, packet);
+        Long key = ((long) fadeIn << 42) | ((long) stay << 21) | fadeOut;
+        Object packet = TIMES_CACHE.get(key);
+        if (packet == null) {
+            packet = createTimesPacket(fadeIn, stay, fadeOut);
+            TIMES_CACHE.put(key, packet);
+        }
+        return packet;
+    }
+    
+    private static Object createTimesPacket(int fadeIn, int stay, int fadeOut) throws Throwable {
+        return (Object) TIMES_PACKET.invokeExact(ACTIONS[TitleAction.TIMES.ordinal()], (Object) null,
+                fadeIn, stay, fadeOut);
     }
     
     /**
-     * Create a title packet with the given text and action
+     * Parse text into a chat component
      */
-    private static Object createTitlePacket(String text, TitleAction action) throws Exception {
-        Class<?> packetClass = getNMSClass("PacketPlayOutTitle");
-        Class<?> actionClass = getNMSClass("PacketPlayOutTitle$EnumTitleAction");
-        Class<?> chatClass = getNMSClass("IChatBaseComponent");
-        
-        Object actionEnum = actionClass.getField(action.name()).get(null);
-        
-        // Create chat component from JSON
-        Object chatComponent = chatClass.getDeclaredClasses()[0]
-                .getMethod("a", String.class)
-                .invoke(null, "{\"text\":\"" + escapeJson(text) + "\"}");
-        
-        Constructor<?> constructor = packetClass.getConstructor(actionClass, chatClass);
-        return constructor.newInstance(actionEnum, chatComponent);
+    private static Object createComponent(String text) throws Throwable {
+        return (Object) SERIALIZE.invokeExact("{\"text\":\"" + escapeJson(text) + "\"}");
     }
     
     /**
-     * Send a packet to a player
+     * Create a title packet with the given component and action
      */
-    private static void sendPacket(Player player, Object packet) throws Exception {
-        Object handle = player.getClass().getMethod("getHandle").invoke(player);
-        Object playerConnection = handle.getClass().getField("playerConnection").get(handle);
-        playerConnection.getClass()
-                .getMethod("sendPacket", getNMSClass("Packet"))
-                .invoke(playerConnection, packet);
+    private static Object createTitlePacket(Object component, TitleAction action) throws Throwable {
+        return (Object) TITLE_PACKET.invokeExact(ACTIONS[action.ordinal()], component);
+    }
+    
+    /**
+     * Get a player's NMS connection
+     */
+    private static Object getConnection(Player player) throws Throwable {
+        Object handle = (Object) GET_HANDLE.invokeExact((Object) player);
+        return (Object) GET_CONNECTION.invokeExact(handle);
+    }
+    
+    /**
+     * Send a packet over a player's connection
+     */
+    private static void sendPacket(Object connection, Object packet) throws Throwable {
+        SEND_PACKET.invokeExact(connection, packet);
     }
     
     /**
      * Get an NMS class by name
      */
-    private static Class<?> getNMSClass(String name) throws ClassNotFoundException {
-        return Class.forName("net.minecraft.server." + VERSION + "." + name);
+    private static Class<?> getNMSClass(String version, String name) throws ClassNotFoundException {
+        return Class.forName("net.minecraft.server." + version + "." + name);
     }
     
     /**
@@ -178,6 +463,106 @@ public class TitleAPI {
                 .replace("\t", "\\t");
     }
     
+    /**
+     * Text whose chat component and packets are built on first use and then reused.
+     * Packets are never modified after construction, so the same instance can be
+     * sent to any number of players.
+     */
+    public static final class PreparedText {
+        
+        static final PreparedText EMPTY = new PreparedText("");
+        
+        private final String text;
+        private volatile Object component;
+        private volatile Object titlePacket;
+        private volatile Object subtitlePacket;
+        private volatile Object actionBarPacket;
+        private volatile Object chatPacket;
+        
+        private PreparedText(String text) {
+            this.text = text;
+        }
+        
+        public String getText() {
+            return text;
+        }
+        
+        public boolean isEmpty() {
+            return text.isEmpty();
+        }
+        
+        // Races below only build an equivalent object twice
+        
+        private Object getComponent() throws Throwable {
+            Object result = component;
+            if (result == null) {
+                result = createComponent(text);
+                component = result;
+            }
+            return result;
+        }
+        
+        private Object getTitlePacket() throws Throwable {
+            Object result = titlePacket;
+            if (result == null) {
+                result = createTitlePacket(getComponent(), TitleAction.TITLE);
+                titlePacket = result;
+            }
+            return result;
+        }
+        
+        private Object getSubtitlePacket() throws Throwable {
+            Object result = subtitlePacket;
+            if (result == null) {
+                result = createTitlePacket(getComponent(), TitleAction.SUBTITLE);
+                subtitlePacket = result;
+            }
+            return result;
+        }
+        
+        private Object getActionBarPacket() throws Throwable {
+            Object result = actionBarPacket;
+            if (result == null) {
+                result = (Object) CHAT_PACKET.invokeExact(getComponent(), (byte) 2);
+                actionBarPacket = result;
+            }
+            return result;
+        }
+        
+        private Object getChatPacket() throws Throwable {
+            Object result = chatPacket;
+            if (result == null) {
+                result = (Object) CHAT_PACKET.invokeExact(getComponent(), (byte) 0);
+                chatPacket = result;
+            }
+            return result;
+        }
+        
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+    
+    /**
+     * What to show a player on the next dispatcher run.
+     * Only modified inside PENDING.compute and read after PENDING.remove.
+     */
+    private static final class Notification {
+        
+        private final Player player;
+        private PreparedText title;
+        private PreparedText subtitle;
+        private int fadeIn;
+        private int stay;
+        private int fadeOut;
+        private PreparedText actionBar;
+        
+        private Notification(Player player) {
+            this.player = player;
+        }
+    }
+    
     /**
      * Title action types
      */